@@ -0,0 +1,28 @@
+package com.example.demoPersonal.config;
+
+import com.example.demoPersonal.service.DtoCaches;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Cachés de DTOs de la capa de servicio. Caffeine acota por tamaño con W-TinyLFU.
+// Transaccional: put y evict se aplican tras el commit, así una invalidación nunca precede a la escritura
+// ni se cachea un estado que acabe en rollback.
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(@Value("${dto-cache.spec}") String spec) {
+        CaffeineCacheManager caffeineCacheManager =
+                new CaffeineCacheManager(DtoCaches.PROJECTS, DtoCaches.EMPLOYEES, DtoCaches.EMPLOYEES_BY_EMAIL);
+        // Con los nombres fijados no se crean cachés al vuelo: un nombre mal escrito en @Cacheable falla
+        caffeineCacheManager.setCacheSpecification(spec);
+
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demoPersonal.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// /actuator/dtocaches: tamaño y estadísticas de cada caché de DTOs, sus entradas y vaciado.
+// Solo para administradores (ver SecurityConfig): las entradas contienen datos de empleados.
+@Component
+@Endpoint(id = "dtocaches")
+public class DtoCacheEndpoint {
+    static final int MAX_ENTRIES = 100;
+
+    private final CacheManager cacheManager;
+
+    public DtoCacheEndpoint(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @ReadOperation
+    public Map<String, CacheSummary> caches() {
+        Map<String, CacheSummary> caches = new TreeMap<>();
+
+        for (String name : cacheManager.getCacheNames()) {
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> cache = nativeCache(name);
+            CacheStats stats = cache.stats();
+
+            caches.put(name, new CacheSummary(cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                    stats.hitRate(), stats.evictionCount()));
+        }
+
+        return caches;
+    }
+
+    // Como mucho MAX_ENTRIES entradas, en el orden en que las devuelva Caffeine. null (404) si no existe
+    @ReadOperation
+    public CacheEntries entries(@Selector String cache) {
+        if (cacheManager.getCache(cache) == null) {
+            return null;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = nativeCache(cache);
+        Map<String, Object> entries = new LinkedHashMap<>();
+
+        for (Map.Entry<Object, Object> entry : nativeCache.asMap().entrySet()) {
+            if (entries.size() == MAX_ENTRIES) {
+                break;
+            }
+            entries.put(String.valueOf(entry.getKey()), entry.getValue());
+        }
+
+        return new CacheEntries(nativeCache.estimatedSize(), entries);
+    }
+
+    @DeleteOperation
+    public void flushAll() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).invalidate());
+    }
+
+    @DeleteOperation
+    public void flush(@Selector String cache) {
+        Cache target = cacheManager.getCache(cache);
+
+        if (target != null) {
+            target.invalidate();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(String name) {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cacheManager.getCache(name).getNativeCache();
+    }
+
+    public record CacheSummary(long size, long hits, long misses, double hitRate, long evictions) {}
+
+    public record CacheEntries(long size, Map<String, Object> entries) {}
+}
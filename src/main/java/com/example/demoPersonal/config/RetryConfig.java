@@ -0,0 +1,34 @@
+package com.example.demoPersonal.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.annotation.EnableRetry;
+
+// El interceptor de @Retryable tiene más precedencia que el de @Transactional: cada intento abre una
+// transacción nueva y vuelve a leer la fila con su versión actual.
+@Configuration
+@EnableRetry
+public class RetryConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryConfig.class);
+
+    @Bean
+    public RetryListener conflictRetryListener(MeterRegistry meterRegistry) {
+        return new RetryListener() {
+            @Override
+            public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+                                                         Throwable throwable) {
+                String operation = String.valueOf(context.getAttribute(RetryContext.NAME));
+
+                meterRegistry.counter("service.conflicts", "operation", operation).increment();
+                log.warn("Concurrent modification in {} (attempt {})", operation, context.getRetryCount());
+            }
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.demoPersonal.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+// Una entrada por región de la caché de segundo nivel. ttl 0 = sin caducidad (solo por tamaño)
+@ConfigurationProperties("second-level-cache")
+public record SecondLevelCacheProperties(Map<String, Region> regions) {
+    public record Region(long maxSize, Duration ttl) {}
+}
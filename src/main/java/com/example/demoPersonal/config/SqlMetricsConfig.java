@@ -0,0 +1,73 @@
+package com.example.demoPersonal.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+// Sentencias, filas y tiempo de BD por endpoint (sql.request.* en /actuator/prometheus).
+// Se mide en el DataSource y no con las estadísticas de Hibernate para incluir también JdbcTemplate.
+@Configuration
+@EnableConfigurationProperties(SqlMetricsProperties.class)
+@ConditionalOnProperty(name = "sql.metrics.enabled", matchIfMissing = true)
+public class SqlMetricsConfig {
+
+    // static: los BeanPostProcessor se crean antes que el resto de beans de la configuración
+    @Bean
+    public static BeanPostProcessor sqlMetricsDataSourceProxy(Environment environment) {
+        boolean countRows = environment.getProperty("sql.metrics.count-rows", Boolean.class, true);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+
+                SqlMetricsListener listener = new SqlMetricsListener();
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(beanName, dataSource).listener(listener);
+                if (countRows) {
+                    builder.proxyResultSet().methodListener(listener);
+                }
+
+                return builder.build();
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlMetricsFilter> sqlMetricsFilter(MeterRegistry meterRegistry,
+                                                                     SqlMetricsProperties properties) {
+        FilterRegistrationBean<SqlMetricsFilter> registration =
+                new FilterRegistrationBean<>(new SqlMetricsFilter(meterRegistry, properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+
+        return registration;
+    }
+
+    // Antepone /* Controlador.metodo */ a cada sentencia para verla en pg_stat_statements y en los logs
+    @Bean
+    @ConditionalOnProperty("sql.metrics.comment-statements")
+    public HibernatePropertiesCustomizer sqlHandlerCommentCustomizer() {
+        StatementInspector inspector = sql -> {
+            SqlRequestStats stats = SqlRequestStats.current();
+            String handler = stats == null ? null : stats.handler();
+
+            return handler == null ? sql : "/* " + handler + " */ " + sql;
+        };
+
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demoPersonal.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Primer filtro de la cadena: también cuenta las consultas de los filtros de seguridad.
+// Solo publica las peticiones que llegan a un método de controlador, etiquetadas con él.
+class SqlMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlMetricsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final SqlMetricsProperties properties;
+
+    SqlMetricsFilter(MeterRegistry meterRegistry, SqlMetricsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        SqlRequestStats stats = SqlRequestStats.begin(request);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            stats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlRequestStats stats) {
+        String handler = stats.handler();
+
+        if (handler == null) {
+            return;
+        }
+
+        DistributionSummary.builder("sql.request.statements")
+                .description("SQL statements executed per HTTP request")
+                .tag("handler", handler)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(1_000.0)
+                .register(meterRegistry)
+                .record(stats.statements());
+
+        if (properties.countRows()) {
+            DistributionSummary.builder("sql.request.rows")
+                    .description("Rows fetched from result sets per HTTP request")
+                    .tag("handler", handler)
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(100_000.0)
+                    .register(meterRegistry)
+                    .record(stats.rows());
+        }
+
+        Timer.builder("sql.request.time")
+                .description("Time spent executing SQL per HTTP request")
+                .tag("handler", handler)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.nanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.statements() > properties.nPlusOneThreshold()) {
+            log.warn("{} {} ({}) ran {} SQL statements, over the N+1 threshold of {}", request.getMethod(),
+                    request.getRequestURI(), handler, stats.statements(), properties.nPlusOneThreshold());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demoPersonal.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+// Recibe cada ejecución JDBC del proxy y la suma a la petición en curso (fuera de una petición no hace nada)
+class SqlMetricsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String START = SqlMetricsListener.class.getName() + ".start";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (SqlRequestStats.current() != null) {
+            execInfo.addCustomValue(START, System.nanoTime());
+        }
+    }
+
+    // Un lote cuenta como una sentencia: es un único viaje a la base de datos
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        Long start = execInfo.getCustomValue(START, Long.class);
+
+        if (stats != null && start != null) {
+            stats.statement(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+
+            SqlRequestStats stats = SqlRequestStats.current();
+            if (stats != null) {
+                stats.row();
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demoPersonal.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// countRows envuelve también los ResultSet: cada next() pasa por el proxy
+@ConfigurationProperties("sql.metrics")
+public record SqlMetricsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int nPlusOneThreshold,
+        @DefaultValue("true") boolean countRows,
+        @DefaultValue("false") boolean commentStatements) {
+}
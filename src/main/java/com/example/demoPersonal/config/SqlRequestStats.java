@@ -0,0 +1,66 @@
+package com.example.demoPersonal.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+// Sentencias, filas y tiempo de BD acumulados por la petición HTTP en curso en este hilo.
+// Las exportaciones NDJSON escriben desde otro hilo y sus consultas no se atribuyen a la petición.
+final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final HttpServletRequest request;
+    private long statements;
+    private long rows;
+    private long nanos;
+
+    private SqlRequestStats(HttpServletRequest request) {
+        this.request = request;
+    }
+
+    static SqlRequestStats begin(HttpServletRequest request) {
+        SqlRequestStats stats = new SqlRequestStats(request);
+        CURRENT.set(stats);
+
+        return stats;
+    }
+
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    void end() {
+        CURRENT.remove();
+    }
+
+    void statement(long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+    }
+
+    void row() {
+        rows++;
+    }
+
+    long statements() {
+        return statements;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    long nanos() {
+        return nanos;
+    }
+
+    // El DispatcherServlet guarda el método del controlador al resolverlo; antes (filtros de seguridad) es null
+    String handler() {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+
+        return null;
+    }
+}
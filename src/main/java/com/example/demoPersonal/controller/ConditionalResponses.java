@@ -0,0 +1,77 @@
+package com.example.demoPersonal.controller;
+
+import com.example.demoPersonal.repository.projection.CollectionVersion;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// GET condicional (If-None-Match / If-Modified-Since) a partir de la versión de la colección.
+// La versión se consulta ANTES que el contenido: si algo cambia entre medias, el cliente recibe datos nuevos
+// con la ETag vieja y en la siguiente petición los vuelve a descargar, nunca al revés.
+// Las colecciones solo llevan ETag: max(updated_at) no cambia con una baja y un If-Modified-Since daría un
+// 304 falso; la ETag sí cambia, porque incluye el número de filas. Una tarea suelta lleva también
+// Last-Modified, porque si se borra la respuesta es 404.
+// Empleados y proyectos no tienen updated_at: solo ETag, a partir de su @Version.
+final class ConditionalResponses {
+
+    private ConditionalResponses() {}
+
+    static <T> ResponseEntity<T> of(WebRequest request, CollectionVersion version, Supplier<T> body) {
+        return of(request, version, false, body);
+    }
+
+    static <T> ResponseEntity<T> ofItem(WebRequest request, CollectionVersion version, Supplier<T> body) {
+        return of(request, version, true, body);
+    }
+
+    private static <T> ResponseEntity<T> of(WebRequest request, CollectionVersion version, boolean withLastModified,
+                                            Supplier<T> body) {
+        // Vacía o inexistente: se responde entera, así un recurso padre que no existe sigue dando 404
+        if (version.isEmpty()) {
+            return ResponseEntity.ok(body.get());
+        }
+
+        Instant modifiedAt = version.lastModified().atZone(ZoneId.systemDefault()).toInstant();
+        String etag = "\"" + Long.toHexString(version.count()) + "-"
+                + Long.toHexString(ChronoUnit.MICROS.between(Instant.EPOCH, modifiedAt)) + "\"";
+        long lastModified = modifiedAt.toEpochMilli();
+
+        // checkNotModified deja escrito el 304 con sus cabeceras; devolver null evita serializar nada
+        boolean notModified = withLastModified
+                ? request.checkNotModified(etag, lastModified)
+                : request.checkNotModified(etag);
+
+        if (notModified) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+
+        if (withLastModified) {
+            response.lastModified(lastModified);
+        }
+
+        return response.body(body.get());
+    }
+
+    static <T> ResponseEntity<T> of(WebRequest request, Optional<String> version, Supplier<T> body) {
+        if (version.isEmpty()) {
+            return ResponseEntity.ok(body.get());
+        }
+
+        String etag = "\"" + version.get() + "\"";
+
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(body.get());
+    }
+}
@@ -2,18 +2,23 @@ package com.example.demoPersonal.controller;
 
 import com.example.demoPersonal.dto.employee.EmployeeRequestDTO;
 import com.example.demoPersonal.dto.employee.EmployeeResponseDTO;
+import com.example.demoPersonal.dto.page.CursorPageResponseDTO;
 import com.example.demoPersonal.dto.task.TaskResponseDTO;
 import com.example.demoPersonal.entity.enums.Position;
 import com.example.demoPersonal.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.util.List;
@@ -26,9 +31,11 @@ import java.util.UUID;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, ObjectMapper objectMapper) {
         this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -38,19 +45,43 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.getAllEmployees(pageable));
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all employees as NDJSON", description = "Streams every employee with its "
+            + "projects in creation order, one JSON object per line.")
+    @ApiResponse(responseCode = "200", description = "One employee per line")
+    public ResponseEntity<StreamingResponseBody> exportEmployees() {
+        return NdjsonResponses.of(objectMapper, employeeService::exportEmployees);
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll employees with a cursor", description = "Ordered by creation. Pass the returned "
+            + "nextCursor to get the next page; nextCursor is null on the last page.")
+    @ApiResponse(responseCode = "200", description = "Get a page of employees")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    public ResponseEntity<CursorPageResponseDTO<EmployeeResponseDTO>> scrollEmployees(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(employeeService.scrollEmployees(cursor, size));
+    }
+
     @GetMapping("/{uuid}")
     @Operation(summary = "Get an employee")
     @ApiResponse(responseCode = "200", description = "Get the employee")
     @ApiResponse(responseCode = "400", description = "Employee not found")
-    public ResponseEntity<EmployeeResponseDTO> getEmployee(@PathVariable UUID uuid) {
-        return ResponseEntity.ok(employeeService.getEmployeeByUuid(uuid));
+    public ResponseEntity<EmployeeResponseDTO> getEmployee(@PathVariable UUID uuid, WebRequest request) {
+        return ConditionalResponses.of(request, employeeService.getEmployeeVersion(uuid),
+                () -> employeeService.getEmployeeByUuid(uuid));
     }
 
     @Operation(summary = "Get current employee data")
     @ApiResponse(responseCode = "200", description = "Show current employee data")
     @GetMapping("/me")
-    public ResponseEntity<EmployeeResponseDTO> getCurrentEmployee(Authentication authentication) {
-        return ResponseEntity.ok(employeeService.getCurrentEmployee(authentication.getName()));
+    public ResponseEntity<EmployeeResponseDTO> getCurrentEmployee(Authentication authentication, WebRequest request) {
+        String email = authentication.getName();
+
+        return ConditionalResponses.of(request, employeeService.getCurrentEmployeeVersion(email),
+                () -> employeeService.getCurrentEmployee(email));
     }
 
     @Operation(summary = "Get employee by email")
@@ -65,15 +96,16 @@ public class EmployeeController {
     @ApiResponse(responseCode = "200", description = "Employee found")
     @ApiResponse(responseCode = "400", description = "Employee not exists")
     @GetMapping("/search-by-name")
-    public ResponseEntity<List<EmployeeResponseDTO>> getEmployeesByName(@RequestParam String name) {
-        return ResponseEntity.ok(employeeService.getEmployeeByName(name));
+    public ResponseEntity<List<EmployeeResponseDTO>> getEmployeesByName(@RequestParam String name, Pageable pageable) {
+        return ResponseEntity.ok(employeeService.getEmployeeByName(name, pageable));
     }
 
     @Operation(summary = "List employees by position")
     @ApiResponse(responseCode = "200", description = "List all employees or an empty list")
     @GetMapping("/search-by-position")
-    public ResponseEntity<List<EmployeeResponseDTO>> getEmployeesByPosition(@RequestParam Position position) {
-        return ResponseEntity.ok(employeeService.getEmployeesByPosition(position));
+    public ResponseEntity<List<EmployeeResponseDTO>> getEmployeesByPosition(@RequestParam Position position,
+                                                                            Pageable pageable) {
+        return ResponseEntity.ok(employeeService.getEmployeesByPosition(position, pageable));
     }
 
     @Operation(summary = "Create an employee")
@@ -98,12 +130,17 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.updateEmployee(uuid, dto));
     }
 
-    @Operation(summary = "Delete an employee")
+    @Operation(summary = "Delete an employee", description = "The employee's tasks are unassigned, or moved to "
+            + "the employee given in reassignTo.")
     @ApiResponse(responseCode = "204", description = "Employee deleted")
+    @ApiResponse(responseCode = "400", description = "reassignTo is the deleted employee")
     @ApiResponse(responseCode = "404", description = "Employee not found")
     @DeleteMapping("/{uuid}")
-    public ResponseEntity<Void> removeEmployee(@PathVariable UUID uuid) {
-        employeeService.removeEmployee(uuid);
+    public ResponseEntity<Void> removeEmployee(
+            @PathVariable UUID uuid,
+            @RequestParam(required = false) UUID reassignTo) {
+
+        employeeService.removeEmployee(uuid, reassignTo);
         return ResponseEntity.noContent().build();
     }
 
@@ -111,15 +148,33 @@ public class EmployeeController {
     @ApiResponse(responseCode = "200", description = "Employee found")
     @ApiResponse(responseCode = "404", description = "Employee not found")
     @GetMapping("/{uuid}/tasks")
-    public ResponseEntity<List<TaskResponseDTO>> getEmployeeTasks(@PathVariable UUID uuid) {
-        return ResponseEntity.ok(employeeService.getEmployeeTasks(uuid));
+    public ResponseEntity<List<TaskResponseDTO>> getEmployeeTasks(@PathVariable UUID uuid, Pageable pageable,
+                                                                  WebRequest request) {
+        return ConditionalResponses.of(request, employeeService.getEmployeeTasksVersion(uuid),
+                () -> employeeService.getEmployeeTasks(uuid, pageable));
+    }
+
+    @Operation(summary = "Stream employee tasks as NDJSON")
+    @ApiResponse(responseCode = "200", description = "One task per line")
+    @ApiResponse(responseCode = "404", description = "Employee not found")
+    @GetMapping(value = "/{uuid}/tasks", params = "stream=true", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployeeTasks(@PathVariable UUID uuid) {
+        // Dentro del cuerpo el 200 ya estaría enviado y no se podría responder 404
+        employeeService.checkEmployeeExists(uuid);
+
+        return NdjsonResponses.of(objectMapper, consumer -> employeeService.streamEmployeeTasks(uuid, consumer));
     }
 
     @Operation(summary = "Get my tasks")
     @ApiResponse(responseCode = "200", description = "Show the tasks")
     @GetMapping("/me/tasks")
-    public ResponseEntity<List<TaskResponseDTO>> getCurrentEmployeeTasks(Authentication authentication) {
-        return ResponseEntity.ok(employeeService.getCurrentEmployeeTasks(authentication.getName()));
+    public ResponseEntity<List<TaskResponseDTO>> getCurrentEmployeeTasks(Authentication authentication,
+                                                                         Pageable pageable,
+                                                                         WebRequest request) {
+        String email = authentication.getName();
+
+        return ConditionalResponses.of(request, employeeService.getCurrentEmployeeTasksVersion(email),
+                () -> employeeService.getCurrentEmployeeTasks(email, pageable));
     }
 
     @Operation(summary = "Assign a project")
@@ -0,0 +1,50 @@
+package com.example.demoPersonal.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+// Respuestas NDJSON (un objeto JSON por línea) que se escriben mientras se leen las filas,
+// sin cargar el resultado completo en memoria.
+final class NdjsonResponses {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private NdjsonResponses() {}
+
+    @FunctionalInterface
+    interface RowSource {
+        void forEach(Consumer<Object> consumer);
+    }
+
+    static ResponseEntity<StreamingResponseBody> of(ObjectMapper objectMapper, RowSource source) {
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+
+            source.forEach(row -> {
+                try {
+                    writer.writeValue(out, row);
+                    out.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+
+            out.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
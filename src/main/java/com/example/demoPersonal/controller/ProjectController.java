@@ -1,17 +1,27 @@
 package com.example.demoPersonal.controller;
 
 import com.example.demoPersonal.dto.employee.EmployeeResponseDTO;
+import com.example.demoPersonal.dto.project.ProjectCloneRequestDTO;
+import com.example.demoPersonal.dto.project.ProjectDeletionJobDTO;
+import com.example.demoPersonal.dto.project.ProjectMembersRequestDTO;
+import com.example.demoPersonal.dto.project.ProjectMembersResponseDTO;
 import com.example.demoPersonal.dto.project.ProjectRequestDTO;
 import com.example.demoPersonal.dto.project.ProjectResponseDTO;
 import com.example.demoPersonal.dto.task.TaskResponseDTO;
+import com.example.demoPersonal.service.ProjectDeletionJobs;
 import com.example.demoPersonal.service.ProjectService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.util.List;
@@ -24,24 +34,45 @@ import java.util.UUID;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectDeletionJobs projectDeletionJobs;
+    private final ObjectMapper objectMapper;
 
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService, ProjectDeletionJobs projectDeletionJobs,
+                             ObjectMapper objectMapper) {
         this.projectService = projectService;
+        this.projectDeletionJobs = projectDeletionJobs;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(summary = "Get all projects")
     @ApiResponse(responseCode = "200", description = "Get projects")
     @GetMapping
-    public ResponseEntity<List<ProjectResponseDTO>> getAllProjects() {
-        return ResponseEntity.ok(projectService.getAllProjects());
+    public ResponseEntity<List<ProjectResponseDTO>> getAllProjects(Pageable pageable) {
+        return ResponseEntity.ok(projectService.getAllProjects(pageable));
+    }
+
+    @Operation(summary = "Stream all projects as NDJSON")
+    @ApiResponse(responseCode = "200", description = "One project per line")
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllProjects() {
+        return NdjsonResponses.of(objectMapper, projectService::streamAllProjects);
+    }
+
+    @Operation(summary = "Export all projects as NDJSON", description = "Streams every project in creation "
+            + "order, one JSON object per line.")
+    @ApiResponse(responseCode = "200", description = "One project per line")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportProjects() {
+        return NdjsonResponses.of(objectMapper, projectService::streamAllProjects);
     }
 
     @Operation(summary = "Get project by Uuid")
     @ApiResponse(responseCode = "200", description = "Get project by uuid")
     @ApiResponse(responseCode = "400", description = "Project not found")
     @GetMapping("/{uuid}")
-    public ResponseEntity<ProjectResponseDTO> getProjectByUuid(@PathVariable UUID uuid) {
-        return ResponseEntity.ok(projectService.getProjectByUuid(uuid));
+    public ResponseEntity<ProjectResponseDTO> getProjectByUuid(@PathVariable UUID uuid, WebRequest request) {
+        return ConditionalResponses.of(request, projectService.getProjectVersion(uuid),
+                () -> projectService.getProjectByUuid(uuid));
     }
 
     @Operation(summary = "Get project by name")
@@ -49,9 +80,10 @@ public class ProjectController {
     @ApiResponse(responseCode = "400", description = "Project not found")
     @GetMapping("/search")
     public ResponseEntity<List<ProjectResponseDTO>> getProjectsByName(
-            @RequestParam String name) {
+            @RequestParam String name,
+            Pageable pageable) {
 
-        return ResponseEntity.ok(projectService.getProjectsByName(name));
+        return ResponseEntity.ok(projectService.getProjectsByName(name, pageable));
     }
 
     @Operation(summary = "Create a project")
@@ -69,6 +101,24 @@ public class ProjectController {
                 .body(created);
     }
 
+    @Operation(summary = "Clone a project", description = "Copies the project and its tasks, reset to TODO and "
+            + "unassigned. Employee membership is copied when includeEmployees is true.")
+    @ApiResponse(responseCode = "201", description = "Project cloned")
+    @ApiResponse(responseCode = "400", description = "Project not found")
+    @PostMapping("/{uuid}/clone")
+    public ResponseEntity<ProjectResponseDTO> cloneProject(
+            @PathVariable UUID uuid,
+            @RequestBody @Valid ProjectCloneRequestDTO dto) {
+
+        ProjectResponseDTO created = projectService.cloneProject(uuid, dto);
+
+        URI location = URI.create("/projects/" + created.uuid());
+
+        return ResponseEntity
+                .created(location)
+                .body(created);
+    }
+
     @Operation(summary = "Update a project")
     @ApiResponse(responseCode = "201", description = "Project updated")
     @ApiResponse(responseCode = "400", description = "Project not found")
@@ -80,13 +130,29 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.updateProject(uuid, dto));
     }
 
-    @Operation(summary = "Remove a project")
+    @Operation(summary = "Remove a project", description = "Projects with more tasks than "
+            + "project.deletion.async-threshold are removed in the background: the response is 202 with a "
+            + "deletion job whose progress is available at the Location header.")
     @ApiResponse(responseCode = "204", description = "Project removed")
+    @ApiResponse(responseCode = "202", description = "Project deletion scheduled")
     @ApiResponse(responseCode = "400", description = "Project not found")
+    @ApiResponse(responseCode = "429", description = "Too many project deletions in progress")
     @DeleteMapping("/{uuid}")
-    public ResponseEntity<Void> removeProject(@PathVariable UUID uuid) {
-        projectService.removeProject(uuid);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<ProjectDeletionJobDTO> removeProject(@PathVariable UUID uuid) {
+        return projectDeletionJobs.removeOrSchedule(uuid)
+                .map(job -> ResponseEntity
+                        .accepted()
+                        .location(URI.create("/api/v1/projects/deletions/" + job.id()))
+                        .body(job))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @Operation(summary = "Get a project deletion job")
+    @ApiResponse(responseCode = "200", description = "Deletion status and progress")
+    @ApiResponse(responseCode = "404", description = "Deletion job not found or expired")
+    @GetMapping("/deletions/{id}")
+    public ResponseEntity<ProjectDeletionJobDTO> getProjectDeletion(@PathVariable UUID id) {
+        return ResponseEntity.ok(projectDeletionJobs.getJob(id));
     }
 
     @Operation(summary = "Get project employees")
@@ -94,9 +160,34 @@ public class ProjectController {
     @ApiResponse(responseCode = "404", description = "Project not found")
     @GetMapping("/{uuid}/employees")
     public ResponseEntity<List<EmployeeResponseDTO>> getProjectEmployees(
-            @PathVariable UUID uuid) {
+            @PathVariable UUID uuid,
+            Pageable pageable) {
+
+        return ResponseEntity.ok(projectService.getProjectEmployees(uuid, pageable));
+    }
+
+    @Operation(summary = "Assign many employees to a project")
+    @ApiResponse(responseCode = "200", description = "Employees assigned; already assigned and unknown ones are reported")
+    @ApiResponse(responseCode = "400", description = "Invalid request")
+    @ApiResponse(responseCode = "404", description = "Project not found")
+    @PutMapping("/{uuid}/employees/bulk-assign")
+    public ResponseEntity<ProjectMembersResponseDTO> assignEmployees(
+            @PathVariable UUID uuid,
+            @RequestBody @Valid ProjectMembersRequestDTO dto) {
+
+        return ResponseEntity.ok(projectService.assignEmployees(uuid, dto.employees()));
+    }
 
-        return ResponseEntity.ok(projectService.getProjectEmployees(uuid));
+    @Operation(summary = "Unassign many employees from a project")
+    @ApiResponse(responseCode = "200", description = "Employees unassigned; non members and unknown ones are reported")
+    @ApiResponse(responseCode = "400", description = "Invalid request")
+    @ApiResponse(responseCode = "404", description = "Project not found")
+    @PutMapping("/{uuid}/employees/bulk-unassign")
+    public ResponseEntity<ProjectMembersResponseDTO> unassignEmployees(
+            @PathVariable UUID uuid,
+            @RequestBody @Valid ProjectMembersRequestDTO dto) {
+
+        return ResponseEntity.ok(projectService.unassignEmployees(uuid, dto.employees()));
     }
 
     @Operation(summary = "Get project tasks")
@@ -104,8 +195,21 @@ public class ProjectController {
     @ApiResponse(responseCode = "404", description = "Project not found")
     @GetMapping("/{uuid}/tasks")
     public ResponseEntity<List<TaskResponseDTO>> getProjectTasks(
-            @PathVariable UUID uuid) {
+            @PathVariable UUID uuid,
+            Pageable pageable,
+            WebRequest request) {
+
+        return ConditionalResponses.of(request, projectService.getProjectTasksVersion(uuid),
+                () -> projectService.getProjectTasks(uuid, pageable));
+    }
+
+    @Operation(summary = "Stream project tasks as NDJSON")
+    @ApiResponse(responseCode = "200", description = "One task per line")
+    @ApiResponse(responseCode = "404", description = "Project not found")
+    @GetMapping(value = "/{uuid}/tasks", params = "stream=true", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamProjectTasks(@PathVariable UUID uuid) {
+        projectService.checkProjectExists(uuid);
 
-        return ResponseEntity.ok(projectService.getProjectTasks(uuid));
+        return NdjsonResponses.of(objectMapper, consumer -> projectService.streamProjectTasks(uuid, consumer));
     }
 }
@@ -1,17 +1,29 @@
 package com.example.demoPersonal.controller;
 
+import com.example.demoPersonal.dto.page.CursorPageResponseDTO;
+import com.example.demoPersonal.dto.search.SearchHitDTO;
+import com.example.demoPersonal.dto.task.BulkAssignRequestDTO;
+import com.example.demoPersonal.dto.task.BulkTaskRequestDTO;
+import com.example.demoPersonal.dto.task.BulkTaskResponseDTO;
+import com.example.demoPersonal.dto.task.BulkTaskUpdateRequestDTO;
+import com.example.demoPersonal.dto.task.BulkTaskUpdateResponseDTO;
 import com.example.demoPersonal.dto.task.TaskRequestDTO;
 import com.example.demoPersonal.dto.task.TaskResponseDTO;
 import com.example.demoPersonal.entity.enums.Status;
+import com.example.demoPersonal.service.SearchService;
 import com.example.demoPersonal.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.util.List;
@@ -24,24 +36,63 @@ import java.util.UUID;
 public class TaskController {
 
     private final TaskService taskService;
+    private final SearchService searchService;
+    private final ObjectMapper objectMapper;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, SearchService searchService, ObjectMapper objectMapper) {
         this.taskService = taskService;
+        this.searchService = searchService;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(summary = "Get all tasks")
     @ApiResponse(responseCode = "200", description = "Get tasks")
     @GetMapping
-    public ResponseEntity<List<TaskResponseDTO>> getAllTasks(Pageable pageable) {
-        return ResponseEntity.ok(taskService.getAllTasks(pageable));
+    public ResponseEntity<List<TaskResponseDTO>> getAllTasks(Pageable pageable, WebRequest request) {
+        return ConditionalResponses.of(request, taskService.getAllTasksVersion(),
+                () -> taskService.getAllTasks(pageable));
+    }
+
+    @Operation(summary = "Export all tasks as NDJSON", description = "Streams every task in creation order, "
+            + "one JSON object per line.")
+    @ApiResponse(responseCode = "200", description = "One task per line")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        return NdjsonResponses.of(objectMapper, taskService::exportTasks);
+    }
+
+    @Operation(summary = "Scroll tasks with a cursor", description = "Ordered by creation. Pass the returned "
+            + "nextCursor to get the next page; nextCursor is null on the last page.")
+    @ApiResponse(responseCode = "200", description = "Get a page of tasks")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponseDTO<TaskResponseDTO>> scrollTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(taskService.scrollTasks(cursor, size));
     }
 
     @Operation(summary = "Get task by uuid")
     @ApiResponse(responseCode = "200", description = "Task found")
     @ApiResponse(responseCode = "400", description = "Task not found")
     @GetMapping("/{uuid}")
-    public ResponseEntity<TaskResponseDTO> getTaskByUuid(@PathVariable UUID uuid) {
-        return ResponseEntity.ok(taskService.getTaskByUuid(uuid));
+    public ResponseEntity<TaskResponseDTO> getTaskByUuid(@PathVariable UUID uuid, WebRequest request) {
+        return ConditionalResponses.ofItem(request, taskService.getTaskVersion(uuid),
+                () -> taskService.getTaskByUuid(uuid));
+    }
+
+    @Operation(summary = "Search tasks, employees and projects", description = "Ranked full-text search over "
+            + "task descriptions, employee names and project names. Every word must match, as a whole word "
+            + "or as a prefix; words shorter than 3 characters only match whole words. Results are the best "
+            + "matches overall, ordered by relevance and then by text.")
+    @ApiResponse(responseCode = "200", description = "Matches, best first")
+    @GetMapping("/search")
+    public ResponseEntity<List<SearchHitDTO>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        return ResponseEntity.ok(searchService.search(q, limit));
     }
 
     @Operation(summary = "Get task by description")
@@ -49,9 +100,20 @@ public class TaskController {
     @ApiResponse(responseCode = "400", description = "Task not found")
     @GetMapping("/search-by-description")
     public ResponseEntity<List<TaskResponseDTO>> getTasksByDescription(
-            @RequestParam String description) {
+            @RequestParam String description,
+            Pageable pageable,
+            WebRequest request) {
+
+        return ConditionalResponses.of(request, taskService.getTasksByDescriptionVersion(description),
+                () -> taskService.getTasksByDescription(description, pageable));
+    }
 
-        return ResponseEntity.ok(taskService.getTasksByDescription(description));
+    @Operation(summary = "Stream tasks by description as NDJSON")
+    @ApiResponse(responseCode = "200", description = "One task per line")
+    @GetMapping(value = "/search-by-description", params = "stream=true", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTasksByDescription(@RequestParam String description) {
+        return NdjsonResponses.of(objectMapper,
+                consumer -> taskService.streamTasksByDescription(description, consumer));
     }
 
     @Operation(summary = "Get task by status")
@@ -59,16 +121,34 @@ public class TaskController {
     @ApiResponse(responseCode = "400", description = "Task not found")
     @GetMapping("/search-by-status")
     public ResponseEntity<List<TaskResponseDTO>> getTasksByStatus(
-            @RequestParam Status status) {
+            @RequestParam Status status,
+            Pageable pageable,
+            WebRequest request) {
+
+        return ConditionalResponses.of(request, taskService.getTasksByStatusVersion(status),
+                () -> taskService.getTaskByStatus(status, pageable));
+    }
 
-        return ResponseEntity.ok(taskService.getTaskByStatus(status));
+    @Operation(summary = "Stream tasks by status as NDJSON")
+    @ApiResponse(responseCode = "200", description = "One task per line")
+    @GetMapping(value = "/search-by-status", params = "stream=true", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTasksByStatus(@RequestParam Status status) {
+        return NdjsonResponses.of(objectMapper, consumer -> taskService.streamTasksByStatus(status, consumer));
     }
 
     @Operation(summary = "Get task unassigned tasks")
     @ApiResponse(responseCode = "200", description = "Get unassigned tasks")
     @GetMapping("/search-unassigned")
-    public ResponseEntity<List<TaskResponseDTO>> getUnassignedTasks() {
-        return ResponseEntity.ok(taskService.getUnassingedTasks());
+    public ResponseEntity<List<TaskResponseDTO>> getUnassignedTasks(Pageable pageable, WebRequest request) {
+        return ConditionalResponses.of(request, taskService.getUnassignedTasksVersion(),
+                () -> taskService.getUnassingedTasks(pageable));
+    }
+
+    @Operation(summary = "Stream unassigned tasks as NDJSON")
+    @ApiResponse(responseCode = "200", description = "One task per line")
+    @GetMapping(value = "/search-unassigned", params = "stream=true", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUnassignedTasks() {
+        return NdjsonResponses.of(objectMapper, taskService::streamUnassignedTasks);
     }
 
     @Operation(summary = "Create a task")
@@ -86,6 +166,40 @@ public class TaskController {
                 .body(task);
     }
 
+    @Operation(summary = "Create tasks in bulk", description = "Up to 1000 tasks. Each item is reported "
+            + "independently: unknown projects fail only their own item.")
+    @ApiResponse(responseCode = "200", description = "Per-item results")
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkTaskResponseDTO> createTasks(
+            @RequestBody @Valid BulkTaskRequestDTO dto) {
+
+        return ResponseEntity.ok(taskService.createTasks(dto.tasks()));
+    }
+
+    @Operation(summary = "Assign tasks in bulk", description = "Up to 1000 task-employee pairs. Each item is "
+            + "reported independently.")
+    @ApiResponse(responseCode = "200", description = "Per-item results")
+    @PutMapping("/bulk-assign")
+    public ResponseEntity<BulkTaskResponseDTO> assignTasks(
+            @RequestBody @Valid BulkAssignRequestDTO dto) {
+
+        return ResponseEntity.ok(taskService.assignTasks(dto.assignments()));
+    }
+
+    @Operation(summary = "Update every task matching a filter", description = "Sets status, moves to a project "
+            + "and/or assigns or unassigns an employee with a single UPDATE. With dryRun=true only the number of "
+            + "matching tasks is returned.")
+    @ApiResponse(responseCode = "200", description = "Number of affected (or matching) tasks")
+    @ApiResponse(responseCode = "400", description = "Empty filter or changes")
+    @ApiResponse(responseCode = "404", description = "Project or employee not found")
+    @PatchMapping
+    public ResponseEntity<BulkTaskUpdateResponseDTO> updateTasks(
+            @RequestBody @Valid BulkTaskUpdateRequestDTO dto,
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+
+        return ResponseEntity.ok(taskService.updateTasks(dto.filter(), dto.changes(), dryRun));
+    }
+
     @Operation(summary = "Update task")
     @ApiResponse(responseCode = "201", description = "Task updated")
     @ApiResponse(responseCode = "400", description = "Task not found")
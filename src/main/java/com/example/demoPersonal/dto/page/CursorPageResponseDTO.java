@@ -0,0 +1,9 @@
+package com.example.demoPersonal.dto.page;
+
+import java.util.List;
+
+// nextCursor es null cuando no quedan más elementos
+public record CursorPageResponseDTO<T>(
+        List<T> items,
+        String nextCursor
+) {}
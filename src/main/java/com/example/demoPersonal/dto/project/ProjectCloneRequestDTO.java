@@ -0,0 +1,10 @@
+package com.example.demoPersonal.dto.project;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record ProjectCloneRequestDTO(
+        @NotBlank(message = "Name is required")
+        String name,
+
+        boolean includeEmployees
+) {}
@@ -0,0 +1,15 @@
+package com.example.demoPersonal.dto.project;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ProjectDeletionJobDTO(
+        UUID id,
+        UUID projectUuid,
+        ProjectDeletionStatus status,
+        long totalTasks,
+        long deletedTasks,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+) {}
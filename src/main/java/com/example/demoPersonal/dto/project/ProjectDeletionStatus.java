@@ -0,0 +1,8 @@
+package com.example.demoPersonal.dto.project;
+
+public enum ProjectDeletionStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,14 @@
+package com.example.demoPersonal.dto.project;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ProjectMembersRequestDTO(
+        @NotEmpty(message = "Employees are required")
+        @Size(max = 1000, message = "No more than 1000 employees per request")
+        List<@NotNull(message = "Employee UUID is required") UUID> employees
+) {}
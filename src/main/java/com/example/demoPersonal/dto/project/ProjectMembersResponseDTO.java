@@ -0,0 +1,10 @@
+package com.example.demoPersonal.dto.project;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ProjectMembersResponseDTO(
+        int changed,
+        int unchanged,
+        List<UUID> notFound
+) {}
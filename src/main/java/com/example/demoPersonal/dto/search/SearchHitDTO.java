@@ -0,0 +1,10 @@
+package com.example.demoPersonal.dto.search;
+
+import java.util.UUID;
+
+public record SearchHitDTO(
+        SearchHitType type,
+        UUID uuid,
+        String text,
+        double rank
+) {}
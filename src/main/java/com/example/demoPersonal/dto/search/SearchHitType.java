@@ -0,0 +1,7 @@
+package com.example.demoPersonal.dto.search;
+
+public enum SearchHitType {
+    TASK,
+    EMPLOYEE,
+    PROJECT
+}
@@ -0,0 +1,13 @@
+package com.example.demoPersonal.dto.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkAssignRequestDTO(
+        @NotEmpty(message = "Assignments are required")
+        @Size(max = 1000, message = "No more than 1000 assignments per request")
+        List<@Valid TaskAssignmentDTO> assignments
+) {}
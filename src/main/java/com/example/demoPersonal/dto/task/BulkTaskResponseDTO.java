@@ -0,0 +1,15 @@
+package com.example.demoPersonal.dto.task;
+
+import java.util.List;
+
+public record BulkTaskResponseDTO(
+        int succeeded,
+        int failed,
+        List<BulkTaskResultDTO> results
+) {
+    public static BulkTaskResponseDTO of(List<BulkTaskResultDTO> results) {
+        int succeeded = (int) results.stream().filter(BulkTaskResultDTO::success).count();
+
+        return new BulkTaskResponseDTO(succeeded, results.size() - succeeded, results);
+    }
+}
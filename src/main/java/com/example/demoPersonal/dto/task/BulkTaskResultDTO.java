@@ -0,0 +1,17 @@
+package com.example.demoPersonal.dto.task;
+
+// Resultado de un elemento de una operación masiva: task si ha ido bien, error si no
+public record BulkTaskResultDTO(
+        int index,
+        boolean success,
+        TaskResponseDTO task,
+        String error
+) {
+    public static BulkTaskResultDTO ok(int index, TaskResponseDTO task) {
+        return new BulkTaskResultDTO(index, true, task, null);
+    }
+
+    public static BulkTaskResultDTO failed(int index, String error) {
+        return new BulkTaskResultDTO(index, false, null, error);
+    }
+}
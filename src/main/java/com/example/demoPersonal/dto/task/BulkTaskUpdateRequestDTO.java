@@ -0,0 +1,14 @@
+package com.example.demoPersonal.dto.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+public record BulkTaskUpdateRequestDTO(
+        @NotNull(message = "Filter is required")
+        @Valid
+        TaskFilterDTO filter,
+
+        @NotNull(message = "Changes are required")
+        @Valid
+        TaskChangesDTO changes
+) {}
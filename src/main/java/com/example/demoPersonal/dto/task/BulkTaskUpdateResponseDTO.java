@@ -0,0 +1,6 @@
+package com.example.demoPersonal.dto.task;
+
+public record BulkTaskUpdateResponseDTO(
+        long affected,
+        boolean dryRun
+) {}
@@ -0,0 +1,13 @@
+package com.example.demoPersonal.dto.task;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public record TaskAssignmentDTO(
+        @NotNull(message = "Task UUID is required")
+        UUID taskUuid,
+
+        @NotNull(message = "Employee UUID is required")
+        UUID employeeUuid
+) {}
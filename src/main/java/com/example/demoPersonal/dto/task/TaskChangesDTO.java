@@ -0,0 +1,28 @@
+package com.example.demoPersonal.dto.task;
+
+import com.example.demoPersonal.entity.enums.Status;
+import jakarta.validation.constraints.AssertTrue;
+
+import java.util.UUID;
+
+// Solo se cambian los campos que no son null
+public record TaskChangesDTO(
+        Status status,
+        UUID projectUuid,
+        UUID employeeUuid,
+        Boolean unassign
+) {
+    public boolean isUnassign() {
+        return Boolean.TRUE.equals(unassign);
+    }
+
+    @AssertTrue(message = "At least one change is required")
+    public boolean isChanging() {
+        return status != null || projectUuid != null || employeeUuid != null || isUnassign();
+    }
+
+    @AssertTrue(message = "Assign an employee or unassign, not both")
+    public boolean isEmployeeChangeValid() {
+        return employeeUuid == null || !isUnassign();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demoPersonal.dto.task;
+
+import com.example.demoPersonal.entity.enums.Status;
+import jakarta.validation.constraints.AssertTrue;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Los criterios se combinan con AND; los que son null no filtran
+public record TaskFilterDTO(
+        UUID projectUuid,
+        Status status,
+        UUID employeeUuid,
+        Boolean unassigned,
+        LocalDateTime createdBefore
+) {
+    public boolean isUnassigned() {
+        return Boolean.TRUE.equals(unassigned);
+    }
+
+    // Sin filtro la sentencia tocaría todas las tareas de la tabla
+    @AssertTrue(message = "At least one filter is required")
+    public boolean isFiltered() {
+        return projectUuid != null || status != null || employeeUuid != null || isUnassigned()
+                || createdBefore != null;
+    }
+
+    @AssertTrue(message = "Filter by employee or by unassigned, not both")
+    public boolean isEmployeeFilterValid() {
+        return employeeUuid == null || !isUnassigned();
+    }
+}
@@ -2,24 +2,37 @@ package com.example.demoPersonal.entity;
 
 import com.example.demoPersonal.entity.enums.Position;
 import com.example.demoPersonal.entity.enums.Role;
+import com.example.demoPersonal.search.SearchIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.OptimisticLock;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners(SearchIndexListener.class)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employees")
+@NaturalIdCache(region = "employees-by-uuid")
 @Table(name = "employees")
 public class Employee {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId
     @Column(nullable = false, unique = true)
     private UUID uuid;
 
@@ -30,6 +43,12 @@ public class Employee {
         }
     }
 
+    // Cambiar sus proyectos no la sube: el ETag (EmployeeVersion) ya incluye sus proyectos
+    @Version
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false)
+    private Long version;
+
     @Column(nullable = false)
     private String name;
 
@@ -47,27 +66,28 @@ public class Employee {
     @Column(nullable = false)
     private Role role = Role.ROLE_USER;
 
-    @OneToMany(
-            mappedBy = "employee",
-            cascade = CascadeType.ALL,
-            orphanRemoval = true,
-            fetch = FetchType.LAZY
-    )
+    // Sube al revocar sus JWT (TokenRevocationService); los emitidos con una versión anterior dejan de valer
+    @Column(nullable = false)
+    private long tokenVersion;
+
+    // Sin cascada: al borrar un empleado sus tareas no se borran, se desasignan o reasignan con un solo UPDATE
+    @OptimisticLock(excluded = true)
+    @OneToMany(mappedBy = "employee", fetch = FetchType.LAZY)
     private List<Task> tasks = new ArrayList<>();
 
+    // Set y no List: Hibernate borra y reinserta todas las filas de una bag al cambiarla.
+    // El servicio cambia la pertenencia con SQL directo sobre employee_projects, sin cargar la colección.
     @ManyToMany
     @JoinTable(
             name = "employee_projects",
             joinColumns = @JoinColumn(name = "employee_id"),
             inverseJoinColumns = @JoinColumn(name = "project_id")
     )
-    private List<Project> projects = new ArrayList<>();
-
-
+    @OrderBy("id")
+    private Set<Project> projects = new LinkedHashSet<>();
 
     public void addProject(Project project) {
-        if(!this.projects.contains(project)) {
-            this.projects.add(project);
+        if (this.projects.add(project)) {
             project.getEmployees().add(this);
         }
     }
@@ -1,23 +1,36 @@
 package com.example.demoPersonal.entity;
 
+import com.example.demoPersonal.search.SearchIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.OptimisticLock;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners(SearchIndexListener.class)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
+@NaturalIdCache(region = "projects-by-uuid")
 @Table(name = "projects")
 public class Project {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId
     @Column(nullable = false, unique = true)
     private UUID uuid;
 
@@ -28,18 +41,22 @@ public class Project {
         }
     }
 
+    @Version
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false)
+    private Long version;
+
     @Column(nullable = false)
     private String name;
 
-    @OneToMany(
-            mappedBy = "project",
-            cascade = CascadeType.ALL,
-            orphanRemoval = true,
-            fetch = FetchType.LAZY
-    )
+    // Colecciones inversas: sus cambios no son del proyecto y no deben subir la versión.
+    // Sin cascada: ProjectService borra las tareas por tramos con SQL y después el proyecto.
+    @OptimisticLock(excluded = true)
+    @OneToMany(mappedBy = "project", fetch = FetchType.LAZY)
     private List<Task> tasks = new ArrayList<>();
 
+    @OptimisticLock(excluded = true)
     @ManyToMany(mappedBy = "projects")
-    private List<Employee> employees = new ArrayList<>();
+    private Set<Employee> employees = new LinkedHashSet<>();
 
 }
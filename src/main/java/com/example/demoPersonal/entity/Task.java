@@ -1,9 +1,12 @@
 package com.example.demoPersonal.entity;
 
 import com.example.demoPersonal.entity.enums.Status;
+import com.example.demoPersonal.search.SearchIndexListener;
 import io.micrometer.common.lang.Nullable;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -15,12 +18,14 @@ import java.util.UUID;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, SearchIndexListener.class})
 @Entity
 @Table(name = "tasks")
 public class Task {
+    // Secuencia en lugar de IDENTITY: con IDENTITY Hibernate no puede agrupar los INSERT en lotes
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -33,6 +38,12 @@ public class Task {
         }
     }
 
+    // Bloqueo optimista: un UPDATE con una versión antigua no toca filas y falla en lugar de pisar otra escritura
+    @Version
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false)
+    private Long version;
+
     @Column(nullable = false)
     private String description;
 
@@ -40,12 +51,13 @@ public class Task {
     @Column(nullable = false)
     private Status status = Status.TODO;
 
-    // FetchType EAGER porque es una relación Many to One y con un atributo que siempre se va a mostrar.
-    @ManyToOne(fetch = FetchType.EAGER, optional = true)
+    // LAZY: las consultas de lectura lo traen con @EntityGraph cuando se va a mostrar.
+    @ManyToOne(fetch = FetchType.LAZY, optional = true)
     @JoinColumn(
             name = "employee_id",
             foreignKey = @ForeignKey(name = "fk_task_employee")
     )
+    @OnDelete(action = OnDeleteAction.SET_NULL)
     private Employee employee;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
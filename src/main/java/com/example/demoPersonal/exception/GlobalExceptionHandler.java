@@ -1,8 +1,11 @@
 package com.example.demoPersonal.exception;
 
+import jakarta.persistence.OptimisticLockException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -69,6 +72,23 @@ public class GlobalExceptionHandler {
                 .body(error);
     }
 
+    @ExceptionHandler(ProjectDeletionNotFoundException.class)
+    public ResponseEntity<ApiError> handleProjectDeletionNotFound(
+            ProjectDeletionNotFoundException exception,
+            HttpServletRequest request) {
+
+        ApiError error = new ApiError(
+                exception.getMessage(),
+                HttpStatus.NOT_FOUND.value(),
+                request.getRequestURI(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(error);
+    }
+
     @ExceptionHandler(TaskNotFoundException.class)
     public ResponseEntity<ApiError> handleTaskNotFound(
             TaskNotFoundException exception,
@@ -85,4 +105,78 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.NOT_FOUND)
                 .body(error);
     }
+
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ApiError> handleServiceBusy(
+            ServiceBusyException exception,
+            HttpServletRequest request) {
+
+        ApiError error = new ApiError(
+                exception.getMessage(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                request.getRequestURI(),
+                LocalDateTime.now()
+        );
+
+        log.warn("Request rejected, service busy: {}", request.getRequestURI());
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiError> handleInvalidCursor(
+            InvalidCursorException exception,
+            HttpServletRequest request) {
+
+        ApiError error = new ApiError(
+                exception.getMessage(),
+                HttpStatus.BAD_REQUEST.value(),
+                request.getRequestURI(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(error);
+    }
+
+    @ExceptionHandler(InvalidReassignmentException.class)
+    public ResponseEntity<ApiError> handleInvalidReassignment(
+            InvalidReassignmentException exception,
+            HttpServletRequest request) {
+
+        ApiError error = new ApiError(
+                exception.getMessage(),
+                HttpStatus.BAD_REQUEST.value(),
+                request.getRequestURI(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(error);
+    }
+
+    // Conflicto de @Version que los reintentos no han resuelto (o en una operación sin reintento)
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<ApiError> handleOptimisticLock(
+            RuntimeException exception,
+            HttpServletRequest request) {
+
+        ApiError error = new ApiError(
+                "Error: The resource was modified concurrently, reload it and try again.",
+                HttpStatus.CONFLICT.value(),
+                request.getRequestURI(),
+                LocalDateTime.now()
+        );
+
+        log.warn("Optimistic lock conflict on {}: {}", request.getRequestURI(), exception.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(error);
+    }
 }
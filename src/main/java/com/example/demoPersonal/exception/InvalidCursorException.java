@@ -0,0 +1,7 @@
+package com.example.demoPersonal.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("Error: Cursor " + cursor + " is not valid.");
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.demoPersonal.exception;
+
+import java.util.UUID;
+
+public class InvalidReassignmentException extends RuntimeException {
+    public InvalidReassignmentException(UUID uuid) {
+        super("Error: Tasks of employee with UUID: " + uuid + " cannot be reassigned to the same employee.");
+    }
+}
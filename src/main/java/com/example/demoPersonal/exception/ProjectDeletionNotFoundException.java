@@ -0,0 +1,9 @@
+package com.example.demoPersonal.exception;
+
+import java.util.UUID;
+
+public class ProjectDeletionNotFoundException extends RuntimeException {
+    public ProjectDeletionNotFoundException(UUID id) {
+        super("Error: Project deletion with id: " + id + " not found.");
+    }
+}
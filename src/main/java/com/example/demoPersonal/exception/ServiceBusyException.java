@@ -0,0 +1,7 @@
+package com.example.demoPersonal.exception;
+
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String resource) {
+        super("Error: " + resource + " is busy, try again later.");
+    }
+}
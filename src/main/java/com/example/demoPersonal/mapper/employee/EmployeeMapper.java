@@ -2,7 +2,16 @@ package com.example.demoPersonal.mapper.employee;
 
 import com.example.demoPersonal.dto.employee.EmployeeResponseDTO;
 import com.example.demoPersonal.entity.Employee;
+import com.example.demoPersonal.repository.projection.EmployeeProjectRow;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface EmployeeMapper {
     EmployeeResponseDTO toDTO(Employee employee);
+    List<EmployeeResponseDTO> toDTOs(List<EmployeeProjectRow> rows);
+    List<EmployeeResponseDTO> toDTOs(List<EmployeeProjectRow> rows, List<UUID> order);
+    void forEachDTO(Stream<EmployeeProjectRow> rows, Consumer<? super EmployeeResponseDTO> consumer);
 }
@@ -1,10 +1,23 @@
 package com.example.demoPersonal.mapper.employee;
 
 import com.example.demoPersonal.dto.employee.EmployeeResponseDTO;
+import com.example.demoPersonal.dto.project.ProjectResponseDTO;
 import com.example.demoPersonal.entity.Employee;
 import com.example.demoPersonal.mapper.project.ProjectMapper;
+import com.example.demoPersonal.repository.projection.EmployeeProjectRow;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Component
 public class EmployeeMapperImpl implements EmployeeMapper {
     private final ProjectMapper projectMapper;
@@ -26,4 +39,57 @@ public class EmployeeMapperImpl implements EmployeeMapper {
                         .toList()
         );
     }
+
+    // Agrupa las filas empleado-proyecto manteniendo el orden en que llegan
+    @Override
+    public List<EmployeeResponseDTO> toDTOs(List<EmployeeProjectRow> rows) {
+        Map<UUID, EmployeeProjectRow> employees = new LinkedHashMap<>();
+        Map<UUID, List<ProjectResponseDTO>> projects = new LinkedHashMap<>();
+
+        for (EmployeeProjectRow row : rows) {
+            employees.putIfAbsent(row.uuid(), row);
+            List<ProjectResponseDTO> employeeProjects = projects.computeIfAbsent(row.uuid(), uuid -> new ArrayList<>());
+
+            if (row.projectUuid() != null) {
+                employeeProjects.add(new ProjectResponseDTO(row.projectUuid(), row.projectName()));
+            }
+        }
+
+        return employees.values().stream()
+                .map(row -> new EmployeeResponseDTO(
+                        row.uuid(),
+                        row.email(),
+                        row.name(),
+                        row.position(),
+                        List.copyOf(projects.get(row.uuid()))
+                ))
+                .toList();
+    }
+
+    // Igual que toDTOs pero en el orden de la página de uuids (las filas llegan sin orden)
+    @Override
+    public List<EmployeeResponseDTO> toDTOs(List<EmployeeProjectRow> rows, List<UUID> order) {
+        Map<UUID, EmployeeResponseDTO> employees = toDTOs(rows).stream()
+                .collect(Collectors.toMap(EmployeeResponseDTO::uuid, Function.identity()));
+
+        return order.stream().map(employees::get).filter(Objects::nonNull).toList();
+    }
+
+    // Las filas deben llegar ordenadas por empleado: se emite cada uno en cuanto cambia el uuid,
+    // así solo hay un empleado en memoria a la vez
+    @Override
+    public void forEachDTO(Stream<EmployeeProjectRow> rows, Consumer<? super EmployeeResponseDTO> consumer) {
+        List<EmployeeProjectRow> current = new ArrayList<>();
+
+        rows.forEachOrdered(row -> {
+            if (!current.isEmpty() && !current.get(0).uuid().equals(row.uuid())) {
+                toDTOs(current).forEach(consumer);
+                current.clear();
+            }
+
+            current.add(row);
+        });
+
+        toDTOs(current).forEach(consumer);
+    }
 }
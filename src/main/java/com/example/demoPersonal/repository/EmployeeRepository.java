@@ -3,16 +3,103 @@ package com.example.demoPersonal.repository;
 
 import com.example.demoPersonal.entity.Employee;
 import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.repository.projection.EmployeeCacheKey;
+import com.example.demoPersonal.repository.projection.KeysetKey;
+import com.example.demoPersonal.repository.projection.TokenVersion;
+import com.example.demoPersonal.repository.projection.EmployeeProjectRow;
+import com.example.demoPersonal.repository.projection.EmployeeVersion;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeRepositoryCustom {
+    // Proyección de lectura: solo las columnas del DTO, sin contraseña y sin pasar por el contexto de persistencia
+    String EMPLOYEE_ROWS = """
+            select new com.example.demoPersonal.repository.projection.EmployeeProjectRow(
+                e.uuid, e.email, e.name, e.position, p.uuid, p.name)
+            from Employee e left join e.projects p
+            """;
+
+    String EMPLOYEE_VERSION = """
+            select new com.example.demoPersonal.repository.projection.EmployeeVersion(
+                e.version, count(p), coalesce(sum(p.id), 0L), coalesce(sum(p.version), 0L))
+            from Employee e left join e.projects p
+            """;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
-    Optional<Employee> findByUuid(UUID uuid);
     Optional<Employee> findByEmail(String email);
-    List<Employee> findByNameIgnoreCase(String name);
-    List<Employee> findByPosition(Position position);
+    List<Employee> findByUuidIn(Collection<UUID> uuids);
     boolean existsByEmail(String email);
+    boolean existsByUuid(UUID uuid);
+
+    // Paginar con join de una colección obliga a paginar en memoria:
+    // primero se pagina sobre los uuid y después se cargan esas filas con sus proyectos.
+    @Query("select e.uuid from Employee e")
+    Slice<UUID> findUuids(Pageable pageable);
+
+    // Keyset: el límite llega en el Pageable (siempre página 0), el cursor es el id del último empleado visto
+    @Query("""
+            select new com.example.demoPersonal.repository.projection.KeysetKey(e.id, e.uuid)
+            from Employee e order by e.id
+            """)
+    List<KeysetKey> findFirstKeys(Pageable limit);
+
+    @Query("""
+            select new com.example.demoPersonal.repository.projection.KeysetKey(e.id, e.uuid)
+            from Employee e where e.id > :afterId order by e.id
+            """)
+    List<KeysetKey> findKeysAfter(@Param("afterId") long afterId, Pageable limit);
+
+    @Query(EMPLOYEE_ROWS + "where e.uuid in :uuids")
+    List<EmployeeProjectRow> findRowsByUuidIn(@Param("uuids") Collection<UUID> uuids);
+
+    // Exportación completa: las filas de cada empleado llegan seguidas para agruparlas sobre la marcha
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = TaskRepository.STREAM_FETCH_SIZE))
+    @Query(EMPLOYEE_ROWS + "order by e.id")
+    Stream<EmployeeProjectRow> streamAllRows();
+
+    @Query(EMPLOYEE_ROWS + "where e.uuid = :uuid")
+    List<EmployeeProjectRow> findRowsByUuid(@Param("uuid") UUID uuid);
+
+    @Query(EMPLOYEE_ROWS + "where e.email = :email")
+    List<EmployeeProjectRow> findRowsByEmail(@Param("email") String email);
+
+    @Query(EMPLOYEE_VERSION + "where e.uuid = :uuid group by e.id, e.version")
+    Optional<EmployeeVersion> findVersionByUuid(@Param("uuid") UUID uuid);
+
+    @Query(EMPLOYEE_VERSION + "where e.email = :email group by e.id, e.version")
+    Optional<EmployeeVersion> findVersionByEmail(@Param("email") String email);
+
+    @Query("select e.uuid from Employee e where lower(e.name) = lower(:name)")
+    List<UUID> findUuidsByName(@Param("name") String name, Pageable pageable);
+
+    @Query("select e.uuid from Employee e where e.position = :position")
+    List<UUID> findUuidsByPosition(@Param("position") Position position, Pageable pageable);
+
+    @Query("select e.uuid from Employee e join e.projects p where p.uuid = :projectUuid")
+    List<UUID> findUuidsByProjectUuid(@Param("projectUuid") UUID projectUuid, Pageable pageable);
+
+    @Query("""
+            select new com.example.demoPersonal.repository.projection.TokenVersion(e.uuid, e.tokenVersion)
+            from Employee e where e.email = :email
+            """)
+    Optional<TokenVersion> findTokenVersionByEmail(@Param("email") String email);
+
+    // Empleados cuyo DTO incluye el proyecto: hay que invalidarlos si el proyecto cambia o se borra
+    @Query("""
+            select new com.example.demoPersonal.repository.projection.EmployeeCacheKey(e.uuid, e.email)
+            from Employee e join e.projects p where p.uuid = :projectUuid
+            """)
+    List<EmployeeCacheKey> findCacheKeysByProjectUuid(@Param("projectUuid") UUID projectUuid);
 }
@@ -0,0 +1,17 @@
+package com.example.demoPersonal.repository;
+
+import com.example.demoPersonal.entity.Employee;
+import com.example.demoPersonal.entity.Project;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface EmployeeRepositoryCustom {
+    Optional<Employee> findByUuid(UUID uuid);
+
+    // Una sola sentencia, idempotente; devuelven cuántas pertenencias han cambiado
+    int addProjectMembers(Project project, Collection<Employee> employees);
+
+    int removeProjectMembers(Project project, Collection<Employee> employees);
+}
@@ -0,0 +1,60 @@
+package com.example.demoPersonal.repository;
+
+import com.example.demoPersonal.entity.Employee;
+import com.example.demoPersonal.entity.Project;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+// Igual que ProjectRepositoryCustomImpl: natural-id para aprovechar la caché de segundo nivel
+@Transactional(readOnly = true)
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+    // Solo esta tabla: sin espacios declarados, una consulta nativa invalida toda la caché de segundo nivel
+    private static final String MEMBERSHIP_TABLE = "employee_projects";
+
+    private final EntityManager entityManager;
+
+    public EmployeeRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<Employee> findByUuid(UUID uuid) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Employee.class).loadOptional(uuid);
+    }
+
+    // ON CONFLICT: las filas que ya existen, o que otra transacción añade a la vez, no cuentan ni fallan
+    @Override
+    @Transactional
+    public int addProjectMembers(Project project, Collection<Employee> employees) {
+        return updateMembership("""
+                insert into employee_projects (employee_id, project_id)
+                select e.id, :projectId from employees e where e.id in (:employeeIds)
+                on conflict do nothing""", project, employees);
+    }
+
+    @Override
+    @Transactional
+    public int removeProjectMembers(Project project, Collection<Employee> employees) {
+        return updateMembership("""
+                delete from employee_projects
+                where project_id = :projectId and employee_id in (:employeeIds)""", project, employees);
+    }
+
+    // Sin subir la versión de los empleados: así dos asignaciones de proyectos distintos al mismo empleado no
+    // entran en conflicto. El ETag cambia igual, porque EmployeeVersion incluye sus proyectos.
+    private int updateMembership(String sql, Project project, Collection<Employee> employees) {
+        if (employees.isEmpty()) {
+            return 0;
+        }
+
+        return NativeMutations.create(entityManager, sql, MEMBERSHIP_TABLE)
+                .setParameter("projectId", project.getId())
+                .setParameterList("employeeIds", employees.stream().map(Employee::getId).toList())
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demoPersonal.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.query.MutationQuery;
+import org.hibernate.query.SynchronizeableQuery;
+
+// INSERT/UPDATE/DELETE nativos. MutationQuery no expone addSynchronizedQuerySpace, pero sin la tabla afectada
+// Hibernate vacía todas las regiones de la caché de segundo nivel en cada executeUpdate.
+final class NativeMutations {
+    private NativeMutations() {}
+
+    static MutationQuery create(EntityManager entityManager, String sql, String table) {
+        MutationQuery query = entityManager.unwrap(Session.class).createNativeMutationQuery(sql);
+        ((SynchronizeableQuery) query).addSynchronizedQuerySpace(table);
+        return query;
+    }
+}
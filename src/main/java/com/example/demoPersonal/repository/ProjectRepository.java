@@ -1,13 +1,45 @@
 package com.example.demoPersonal.repository;
 
+import com.example.demoPersonal.dto.project.ProjectResponseDTO;
 import com.example.demoPersonal.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface ProjectRepository extends JpaRepository<Project, Long> {
-    Optional<Project> findByUuid(UUID uuid);
-    List<Project> findByName(String name);
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectRepositoryCustom {
+    String PROJECT_DTO = "select new com.example.demoPersonal.dto.project.ProjectResponseDTO(p.uuid, p.name) from Project p ";
+
+    List<Project> findByUuidIn(Collection<UUID> uuids);
+    boolean existsByUuid(UUID uuid);
+
+    @Query(PROJECT_DTO + "where p.uuid = :uuid")
+    Optional<ProjectResponseDTO> findDTOByUuid(@Param("uuid") UUID uuid);
+
+    @Query("select p.version from Project p where p.uuid = :uuid")
+    Optional<Long> findVersionByUuid(@Param("uuid") UUID uuid);
+
+    @Query(PROJECT_DTO + "where p.name = :name")
+    List<ProjectResponseDTO> findDTOByName(@Param("name") String name, Pageable pageable);
+
+    // Caché de consultas: se invalida sola en cuanto se escribe en la tabla projects
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query(PROJECT_DTO)
+    List<ProjectResponseDTO> findAllDTO(Pageable pageable);
+
+    // Debe consumirse dentro de una transacción de solo lectura y cerrarse al terminar
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = TaskRepository.STREAM_FETCH_SIZE))
+    @Query(PROJECT_DTO + "order by p.id")
+    Stream<ProjectResponseDTO> streamAllDTO();
 }
@@ -0,0 +1,24 @@
+package com.example.demoPersonal.repository;
+
+import com.example.demoPersonal.entity.Project;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ProjectRepositoryCustom {
+    Optional<Project> findByUuid(UUID uuid);
+
+    // Borra como mucho limit tareas del proyecto en una transacción propia y devuelve sus uuids
+    List<UUID> deleteTasks(Project project, int limit);
+
+    int deleteMemberships(Project project);
+
+    // Sin comprobar @Version ni recorrer las colecciones del proyecto
+    int deleteProject(Project project);
+
+    // Copias con INSERT ... SELECT: ninguna fila pasa por la aplicación
+    int copyTasks(Project source, Project target);
+
+    int copyMemberships(Project source, Project target);
+}
@@ -0,0 +1,129 @@
+package com.example.demoPersonal.repository;
+
+import com.example.demoPersonal.entity.Project;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+// Búsqueda por natural-id: pasa por la caché de segundo nivel (uuid -> id -> entidad) en lugar de lanzar
+// siempre una consulta como haría el método derivado findByUuid
+@Transactional(readOnly = true)
+public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
+    // INCREMENT BY de tasks_id_seq (V4) y allocationSize de Task
+    private static final int TASK_ID_BLOCK = 50;
+    private static final String RESERVE_TASK_IDS = """
+            select nextval('tasks_id_seq')
+            from generate_series(1, (select (count(*) + 49) / 50 from tasks where project_id = :sourceId))""";
+    private static final String COPY_TASKS = """
+            insert into tasks (id, uuid, description, status, project_id, employee_id, created_at, updated_at,
+                               version)
+            select :firstId + s.rn - :fromRow, gen_random_uuid(), s.description, 'TODO', :targetId, null, :now,
+                   :now, 0
+            from (select t.description, row_number() over (order by t.id) as rn
+                  from tasks t where t.project_id = :sourceId) s
+            where s.rn between :fromRow and :toRow""";
+
+    private final EntityManager entityManager;
+
+    public ProjectRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<Project> findByUuid(UUID uuid) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Project.class).loadOptional(uuid);
+    }
+
+    @Override
+    @Transactional
+    public List<UUID> deleteTasks(Project project, int limit) {
+        List<Tuple> tasks = entityManager.createQuery(
+                        "select t.id as id, t.uuid as uuid from Task t where t.project = :project order by t.id",
+                        Tuple.class)
+                .setParameter("project", project)
+                .setMaxResults(limit)
+                .getResultList();
+
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+
+        entityManager.createQuery("delete from Task t where t.id in :ids")
+                .setParameter("ids", tasks.stream().map(task -> task.get("id", Long.class)).toList())
+                .executeUpdate();
+
+        return tasks.stream().map(task -> task.get("uuid", UUID.class)).toList();
+    }
+
+    // En PostgreSQL ya lo hace la FK (ON DELETE CASCADE), pero no en el esquema que genera Hibernate para H2
+    @Override
+    @Transactional
+    public int deleteMemberships(Project project) {
+        return NativeMutations.create(entityManager, "delete from employee_projects where project_id = :projectId",
+                        "employee_projects")
+                .setParameter("projectId", project.getId())
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int deleteProject(Project project) {
+        return entityManager.createQuery("delete from Project p where p.id = :id")
+                .setParameter("id", project.getId())
+                .executeUpdate();
+    }
+
+    // Tareas nuevas sin empleado y en TODO. Los ids salen de la secuencia igual que los de Hibernate (optimizador
+    // pooled): cada nextval devuelve el último id de un bloque de 50. Se reserva un bloque por cada 50 tareas, no
+    // uno por tarea, y se inserta un tramo por cada serie de bloques consecutivos (normalmente una sola).
+    @Override
+    @Transactional
+    public int copyTasks(Project source, Project target) {
+        // Vacía si el proyecto no tiene tareas
+        List<Long> blocks = entityManager.unwrap(Session.class)
+                .createNativeQuery(RESERVE_TASK_IDS, Long.class)
+                .setParameter("sourceId", source.getId())
+                .getResultList();
+
+        LocalDateTime now = LocalDateTime.now();
+        int copied = 0;
+        int first = 0;
+
+        for (int i = 1; i <= blocks.size(); i++) {
+            if (i < blocks.size() && blocks.get(i) == blocks.get(i - 1) + TASK_ID_BLOCK) {
+                continue;
+            }
+
+            long fromRow = (long) first * TASK_ID_BLOCK + 1;
+            copied += NativeMutations.create(entityManager, COPY_TASKS, "tasks")
+                    .setParameter("firstId", blocks.get(first) - TASK_ID_BLOCK + 1)
+                    .setParameter("fromRow", fromRow)
+                    .setParameter("toRow", (long) i * TASK_ID_BLOCK)
+                    .setParameter("sourceId", source.getId())
+                    .setParameter("targetId", target.getId())
+                    .setParameter("now", now)
+                    .executeUpdate();
+            first = i;
+        }
+
+        return copied;
+    }
+
+    @Override
+    @Transactional
+    public int copyMemberships(Project source, Project target) {
+        return NativeMutations.create(entityManager, """
+                        insert into employee_projects (employee_id, project_id)
+                        select ep.employee_id, :targetId from employee_projects ep where ep.project_id = :sourceId""",
+                        "employee_projects")
+                .setParameter("sourceId", source.getId())
+                .setParameter("targetId", target.getId())
+                .executeUpdate();
+    }
+}
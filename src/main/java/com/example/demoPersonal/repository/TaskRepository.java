@@ -1,16 +1,156 @@
 package com.example.demoPersonal.repository;
 
+import com.example.demoPersonal.dto.task.TaskResponseDTO;
+import com.example.demoPersonal.entity.Employee;
 import com.example.demoPersonal.entity.Task;
 import com.example.demoPersonal.entity.enums.Status;
+import com.example.demoPersonal.repository.projection.CollectionVersion;
+import com.example.demoPersonal.repository.projection.TaskKeysetRow;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+    // Proyección de lectura: el DTO se construye en la consulta, sin entidades gestionadas
+    String TASK_DTO = """
+            select new com.example.demoPersonal.dto.task.TaskResponseDTO(
+                t.uuid, t.description, t.status, t.createdAt, t.updatedAt, e.uuid, p.uuid)
+            from Task t left join t.employee e join t.project p
+            """;
+
+    String TASK_KEYSET_ROW = """
+            select new com.example.demoPersonal.repository.projection.TaskKeysetRow(
+                t.id, t.uuid, t.description, t.status, t.createdAt, t.updatedAt, e.uuid, p.uuid)
+            from Task t left join t.employee e join t.project p
+            """;
+
+    // Versión (count, max(updatedAt)) de cada consulta de lectura, para ETag / Last-Modified sin cargar la lista
+    String TASK_VERSION = """
+            select new com.example.demoPersonal.repository.projection.CollectionVersion(count(t), max(t.updatedAt))
+            from Task t
+            """;
+
+    // Los Stream deben consumirse dentro de una transacción de solo lectura y cerrarse al terminar
+    String STREAM_FETCH_SIZE = "500";
+
+    // Escrituras: la entidad se devuelve mapeada, así que trae empleado y proyecto en la misma consulta
+    @EntityGraph(attributePaths = {"employee", "project"})
     Optional<Task> findByUuid(UUID uuid);
-    List<Task> findByDescription(String description);
-    List<Task> findByStatus(Status status);
-    List<Task> findByEmployeeIsNull();
+
+    @EntityGraph(attributePaths = {"employee", "project"})
+    List<Task> findByUuidIn(Collection<UUID> uuids);
+
+    boolean existsByUuid(UUID uuid);
+
+    @Query(TASK_DTO + "where t.uuid = :uuid")
+    Optional<TaskResponseDTO> findDTOByUuid(@Param("uuid") UUID uuid);
+
+    @Query(TASK_DTO + "where t.description = :description")
+    List<TaskResponseDTO> findDTOByDescription(@Param("description") String description, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(TASK_DTO + "where t.description = :description order by t.id")
+    Stream<TaskResponseDTO> streamDTOByDescription(@Param("description") String description);
+
+    @Query(TASK_DTO + "where t.status = :status")
+    List<TaskResponseDTO> findDTOByStatus(@Param("status") Status status, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(TASK_DTO + "where t.status = :status order by t.id")
+    Stream<TaskResponseDTO> streamDTOByStatus(@Param("status") Status status);
+
+    @Query(TASK_DTO + "where t.employee is null")
+    List<TaskResponseDTO> findDTOByEmployeeIsNull(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(TASK_DTO + "where t.employee is null order by t.id")
+    Stream<TaskResponseDTO> streamDTOByEmployeeIsNull();
+
+    // Exportación completa en orden de creación
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(TASK_DTO + "order by t.id")
+    Stream<TaskResponseDTO> streamAllDTO();
+
+    // Slice: paginación en BD sin el COUNT(*) de Page
+    @Query(TASK_DTO)
+    Slice<TaskResponseDTO> findAllDTO(Pageable pageable);
+
+    // Keyset: el límite llega en el Pageable (siempre página 0), el cursor es el id de la última tarea vista.
+    // Sigue funcionando aunque esa tarea se haya borrado mientras se recorre.
+    @Query(TASK_KEYSET_ROW + "order by t.id")
+    List<TaskKeysetRow> findFirstRows(Pageable limit);
+
+    @Query(TASK_KEYSET_ROW + "where t.id > :afterId order by t.id")
+    List<TaskKeysetRow> findRowsAfter(@Param("afterId") long afterId, Pageable limit);
+
+    @Query(TASK_DTO + "where p.uuid = :projectUuid")
+    List<TaskResponseDTO> findDTOByProjectUuid(@Param("projectUuid") UUID projectUuid, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(TASK_DTO + "where p.uuid = :projectUuid order by t.id")
+    Stream<TaskResponseDTO> streamDTOByProjectUuid(@Param("projectUuid") UUID projectUuid);
+
+    @Query(TASK_DTO + "where e.uuid = :employeeUuid")
+    List<TaskResponseDTO> findDTOByEmployeeUuid(@Param("employeeUuid") UUID employeeUuid, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(TASK_DTO + "where e.uuid = :employeeUuid order by t.id")
+    Stream<TaskResponseDTO> streamDTOByEmployeeUuid(@Param("employeeUuid") UUID employeeUuid);
+
+    @Query(TASK_DTO + "where e.email = :email")
+    List<TaskResponseDTO> findDTOByEmployeeEmail(@Param("email") String email, Pageable pageable);
+
+    @Query(TASK_VERSION + "where t.uuid = :uuid")
+    CollectionVersion findVersionByUuid(@Param("uuid") UUID uuid);
+
+    @Query(TASK_VERSION)
+    CollectionVersion findVersion();
+
+    @Query(TASK_VERSION + "where t.description = :description")
+    CollectionVersion findVersionByDescription(@Param("description") String description);
+
+    @Query(TASK_VERSION + "where t.status = :status")
+    CollectionVersion findVersionByStatus(@Param("status") Status status);
+
+    @Query(TASK_VERSION + "where t.employee is null")
+    CollectionVersion findVersionByEmployeeIsNull();
+
+    @Query(TASK_VERSION + "where t.project.uuid = :projectUuid")
+    CollectionVersion findVersionByProjectUuid(@Param("projectUuid") UUID projectUuid);
+
+    @Query(TASK_VERSION + "where t.employee.uuid = :employeeUuid")
+    CollectionVersion findVersionByEmployeeUuid(@Param("employeeUuid") UUID employeeUuid);
+
+    @Query(TASK_VERSION + "where t.employee.email = :email")
+    CollectionVersion findVersionByEmployeeEmail(@Param("email") String email);
+
+    // UPDATE masivos: no pasan por @Version ni por la auditoría, así que suben version y updatedAt a mano
+    // para que fallen las escrituras concurrentes con la versión anterior y cambien los ETag
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Task t set t.employee = null, t.updatedAt = :now, t.version = t.version + 1
+            where t.employee = :employee""")
+    int unassignEmployeeTasks(@Param("employee") Employee employee, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Task t set t.employee = :target, t.updatedAt = :now, t.version = t.version + 1
+            where t.employee = :employee""")
+    int reassignEmployeeTasks(@Param("employee") Employee employee, @Param("target") Employee target,
+                              @Param("now") LocalDateTime now);
 }
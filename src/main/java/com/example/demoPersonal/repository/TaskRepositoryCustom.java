@@ -0,0 +1,19 @@
+package com.example.demoPersonal.repository;
+
+import com.example.demoPersonal.entity.Employee;
+import com.example.demoPersonal.entity.Project;
+import com.example.demoPersonal.entity.enums.Status;
+
+import java.time.LocalDateTime;
+
+public interface TaskRepositoryCustom {
+    // Criterios y cambios de una actualización masiva; los campos null no filtran / no cambian
+    record Filter(Project project, Status status, Employee employee, boolean unassigned,
+                  LocalDateTime createdBefore) {}
+
+    record Changes(Status status, Project project, Employee employee, boolean unassign) {}
+
+    long countByFilter(Filter filter);
+
+    int updateByFilter(Filter filter, Changes changes, LocalDateTime now);
+}
@@ -0,0 +1,90 @@
+package com.example.demoPersonal.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// JPQL construido según los criterios presentes: un solo UPDATE o un solo count(*) sobre tasks, sin cargar
+// entidades. count(*) y no count(t): con un índice que cubra el filtro, PostgreSQL no necesita leer las filas.
+@Transactional(readOnly = true)
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    private final EntityManager entityManager;
+
+    public TaskRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public long countByFilter(Filter filter) {
+        Map<String, Object> parameters = new HashMap<>();
+        String where = where(filter, parameters);
+
+        TypedQuery<Long> query = entityManager.createQuery("select count(*) from Task t" + where, Long.class);
+        parameters.forEach(query::setParameter);
+
+        return query.getSingleResult();
+    }
+
+    // Como los UPDATE de TaskRepository: version y updatedAt se suben a mano
+    @Override
+    @Transactional
+    public int updateByFilter(Filter filter, Changes changes, LocalDateTime now) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder update = new StringBuilder("update Task t set t.updatedAt = :now, t.version = t.version + 1");
+        parameters.put("now", now);
+
+        if (changes.status() != null) {
+            update.append(", t.status = :newStatus");
+            parameters.put("newStatus", changes.status());
+        }
+        if (changes.project() != null) {
+            update.append(", t.project = :newProject");
+            parameters.put("newProject", changes.project());
+        }
+        if (changes.unassign()) {
+            update.append(", t.employee = null");
+        } else if (changes.employee() != null) {
+            update.append(", t.employee = :newEmployee");
+            parameters.put("newEmployee", changes.employee());
+        }
+
+        update.append(where(filter, parameters));
+
+        Query query = entityManager.createQuery(update.toString());
+        parameters.forEach(query::setParameter);
+
+        return query.executeUpdate();
+    }
+
+    private static String where(Filter filter, Map<String, Object> parameters) {
+        List<String> conditions = new ArrayList<>();
+
+        if (filter.project() != null) {
+            conditions.add("t.project = :project");
+            parameters.put("project", filter.project());
+        }
+        if (filter.status() != null) {
+            conditions.add("t.status = :status");
+            parameters.put("status", filter.status());
+        }
+        if (filter.unassigned()) {
+            conditions.add("t.employee is null");
+        } else if (filter.employee() != null) {
+            conditions.add("t.employee = :employee");
+            parameters.put("employee", filter.employee());
+        }
+        if (filter.createdBefore() != null) {
+            conditions.add("t.createdAt < :createdBefore");
+            parameters.put("createdBefore", filter.createdBefore());
+        }
+
+        return conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+    }
+}
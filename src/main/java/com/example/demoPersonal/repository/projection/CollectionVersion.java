@@ -0,0 +1,14 @@
+package com.example.demoPersonal.repository.projection;
+
+import java.time.LocalDateTime;
+
+// Validador barato de una colección de tareas: cualquier alta o modificación sube lastModified
+// (updated_at es @LastModifiedDate) y cualquier baja cambia count
+public record CollectionVersion(
+        long count,
+        LocalDateTime lastModified
+) {
+    public boolean isEmpty() {
+        return count == 0;
+    }
+}
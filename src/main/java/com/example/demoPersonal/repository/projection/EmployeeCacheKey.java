@@ -0,0 +1,6 @@
+package com.example.demoPersonal.repository.projection;
+
+import java.util.UUID;
+
+// Las dos claves con las que se cachea el DTO de un empleado
+public record EmployeeCacheKey(UUID uuid, String email) {}
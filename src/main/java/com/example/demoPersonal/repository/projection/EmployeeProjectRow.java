@@ -0,0 +1,15 @@
+package com.example.demoPersonal.repository.projection;
+
+import com.example.demoPersonal.entity.enums.Position;
+
+import java.util.UUID;
+
+// Una fila por pareja empleado-proyecto (proyecto nulo si no tiene ninguno)
+public record EmployeeProjectRow(
+        UUID uuid,
+        String email,
+        String name,
+        Position position,
+        UUID projectUuid,
+        String projectName
+) {}
@@ -0,0 +1,9 @@
+package com.example.demoPersonal.repository.projection;
+
+// Versión del DTO de un empleado: su propia @Version, y sus proyectos por número, suma de ids (cambiar uno por
+// otro) y suma de versiones (renombrar alguno). Asignar o quitar un proyecto no sube la versión del empleado.
+public record EmployeeVersion(Long version, Long projects, Long projectIds, Long projectVersions) {
+    public String tag() {
+        return version + "." + projects + "." + projectIds + "." + projectVersions;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.demoPersonal.repository.projection;
+
+import java.util.UUID;
+
+// Id (clave del cursor keyset) y uuid de una fila
+public record KeysetKey(Long id, UUID uuid) {}
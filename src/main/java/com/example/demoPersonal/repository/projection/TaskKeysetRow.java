@@ -0,0 +1,23 @@
+package com.example.demoPersonal.repository.projection;
+
+import com.example.demoPersonal.dto.task.TaskResponseDTO;
+import com.example.demoPersonal.entity.enums.Status;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Columnas del DTO de tarea más el id, que es la clave del cursor keyset
+public record TaskKeysetRow(
+        Long id,
+        UUID uuid,
+        String description,
+        Status status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        UUID employeeUuid,
+        UUID projectUuid
+) {
+    public TaskResponseDTO toDTO() {
+        return new TaskResponseDTO(uuid, description, status, createdAt, updatedAt, employeeUuid, projectUuid);
+    }
+}
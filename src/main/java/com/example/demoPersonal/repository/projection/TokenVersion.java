@@ -0,0 +1,6 @@
+package com.example.demoPersonal.repository.projection;
+
+import java.util.UUID;
+
+// Empleado dueño de un email y versión vigente de sus JWT
+public record TokenVersion(UUID uuid, long version) {}
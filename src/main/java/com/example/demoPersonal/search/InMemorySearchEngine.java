@@ -0,0 +1,196 @@
+package com.example.demoPersonal.search;
+
+import com.example.demoPersonal.dto.project.ProjectResponseDTO;
+import com.example.demoPersonal.dto.search.SearchHitDTO;
+import com.example.demoPersonal.dto.search.SearchHitType;
+import com.example.demoPersonal.dto.task.TaskResponseDTO;
+import com.example.demoPersonal.repository.EmployeeRepository;
+import com.example.demoPersonal.repository.ProjectRepository;
+import com.example.demoPersonal.repository.TaskRepository;
+import com.example.demoPersonal.repository.projection.EmployeeProjectRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// Índice invertido en memoria para H2 (perfil test), donde no hay tsvector. Se carga al arrancar y
+// SearchIndexListener lo mantiene al día tras cada commit. La relevancia imita ts_rank con
+// normalización 1: coincidencias divididas por 1 + log(número de palabras).
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "memory")
+public class InMemorySearchEngine implements SearchEngine {
+    private static final Logger log = LoggerFactory.getLogger(InMemorySearchEngine.class);
+
+    private static final double EXACT_MATCH = 1.0;
+    private static final double PREFIX_MATCH = 0.5;
+
+    private final TaskRepository taskRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ProjectRepository projectRepository;
+
+    private final Map<DocKey, Document> documents = new ConcurrentHashMap<>();
+    // Ordenado para resolver cada prefijo con un rango de claves
+    private final ConcurrentNavigableMap<String, Set<DocKey>> postings = new ConcurrentSkipListMap<>();
+    // ReentrantLock y no synchronized: en Java 21 un hilo virtual esperando un monitor bloquea su carrier
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public InMemorySearchEngine(TaskRepository taskRepository, EmployeeRepository employeeRepository,
+                                ProjectRepository projectRepository) {
+        this.taskRepository = taskRepository;
+        this.employeeRepository = employeeRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        clear();
+
+        try (Stream<TaskResponseDTO> tasks = taskRepository.streamAllDTO()) {
+            tasks.forEach(task -> index(SearchHitType.TASK, task.uuid(), task.description()));
+        }
+        try (Stream<EmployeeProjectRow> rows = employeeRepository.streamAllRows()) {
+            rows.forEach(row -> index(SearchHitType.EMPLOYEE, row.uuid(), row.name()));
+        }
+        try (Stream<ProjectResponseDTO> projects = projectRepository.streamAllDTO()) {
+            projects.forEach(project -> index(SearchHitType.PROJECT, project.uuid(), project.name()));
+        }
+
+        log.info("In-memory search index built with {} documents", documents.size());
+    }
+
+    public void index(SearchHitType type, UUID uuid, String text) {
+        DocKey key = new DocKey(type, uuid);
+        List<String> tokens = SearchTokens.of(text);
+
+        writeLock.lock();
+        try {
+            remove(key);
+            documents.put(key, new Document(text, tokens.size()));
+
+            for (String token : tokens) {
+                postings.computeIfAbsent(token, t -> ConcurrentHashMap.newKeySet()).add(key);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(SearchHitType type, UUID uuid) {
+        writeLock.lock();
+        try {
+            remove(new DocKey(type, uuid));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void clear() {
+        writeLock.lock();
+        try {
+            documents.clear();
+            postings.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<SearchHitDTO> search(String query, int limit) {
+        List<String> terms = SearchTokens.of(query);
+
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        Map<DocKey, Double> scores = null;
+
+        // Todos los términos deben aparecer (AND), cada uno como palabra completa o prefijo
+        for (String term : terms) {
+            Map<DocKey, Double> termScores = match(term);
+
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((key, score) -> score + termScores.get(key));
+            }
+
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        return scores.entrySet().stream()
+                .map(entry -> toHit(entry.getKey(), entry.getValue()))
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingDouble(SearchHitDTO::rank).reversed()
+                        .thenComparing(SearchHitDTO::text))
+                .limit(limit)
+                .toList();
+    }
+
+    private Map<DocKey, Double> match(String term) {
+        Map<DocKey, Double> termScores = new HashMap<>();
+
+        if (!SearchTokens.matchesPrefix(term)) {
+            postings.getOrDefault(term, Set.of()).forEach(key -> termScores.put(key, EXACT_MATCH));
+            return termScores;
+        }
+
+        postings.subMap(term, true, term + Character.MAX_VALUE, false).forEach((token, keys) -> {
+            double weight = token.equals(term) ? EXACT_MATCH : PREFIX_MATCH;
+            keys.forEach(key -> termScores.merge(key, weight, Math::max));
+        });
+
+        return termScores;
+    }
+
+    // Un documento borrado entre la búsqueda en postings y este punto simplemente se descarta
+    private SearchHitDTO toHit(DocKey key, double score) {
+        Document document = documents.get(key);
+
+        if (document == null) {
+            return null;
+        }
+
+        double rank = score / (1 + Math.log(Math.max(document.length(), 1)));
+
+        return new SearchHitDTO(key.type(), key.uuid(), document.text(), rank);
+    }
+
+    private void remove(DocKey key) {
+        Document previous = documents.remove(key);
+
+        if (previous == null) {
+            return;
+        }
+
+        for (String token : SearchTokens.of(previous.text())) {
+            postings.computeIfPresent(token, (t, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private record DocKey(SearchHitType type, UUID uuid) {}
+
+    private record Document(String text, int length) {}
+}
@@ -0,0 +1,71 @@
+package com.example.demoPersonal.search;
+
+import com.example.demoPersonal.dto.search.SearchHitDTO;
+import com.example.demoPersonal.dto.search.SearchHitType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// Usa las columnas search_vector (generadas y con índice GIN, ver V6). Cada tabla aporta sus :limit
+// mejores coincidencias ya ordenadas por relevancia, así que el resultado es el mejor global y no una
+// muestra arbitraria. Los términos cortos no se buscan como prefijo (SearchTokens) para acotar cuántas
+// filas hay que puntuar.
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresSearchEngine implements SearchEngine {
+
+    private static final String SEARCH = """
+            select type, uuid, text, rank
+            from (
+                (select 'TASK' as type, uuid, description as text,
+                        ts_rank(search_vector, to_tsquery('simple', :query), 1) as rank
+                 from tasks where search_vector @@ to_tsquery('simple', :query)
+                 order by rank desc, text limit :limit)
+                union all
+                (select 'EMPLOYEE', uuid, name, ts_rank(search_vector, to_tsquery('simple', :query), 1) as rank
+                 from employees where search_vector @@ to_tsquery('simple', :query)
+                 order by rank desc, name limit :limit)
+                union all
+                (select 'PROJECT', uuid, name, ts_rank(search_vector, to_tsquery('simple', :query), 1) as rank
+                 from projects where search_vector @@ to_tsquery('simple', :query)
+                 order by rank desc, name limit :limit)
+            ) hits
+            order by rank desc, text
+            limit :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public PostgresSearchEngine(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<SearchHitDTO> search(String query, int limit) {
+        List<String> terms = SearchTokens.of(query);
+
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        // Todos los términos deben aparecer, cada uno como palabra completa o prefijo
+        String tsquery = terms.stream()
+                .map(term -> SearchTokens.matchesPrefix(term) ? term + ":*" : term)
+                .collect(Collectors.joining(" & "));
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", tsquery)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(SEARCH, params, (rs, rowNum) -> new SearchHitDTO(
+                SearchHitType.valueOf(rs.getString("type")),
+                rs.getObject("uuid", UUID.class),
+                rs.getString("text"),
+                rs.getDouble("rank")));
+    }
+}
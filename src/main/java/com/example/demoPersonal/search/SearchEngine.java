@@ -0,0 +1,11 @@
+package com.example.demoPersonal.search;
+
+import com.example.demoPersonal.dto.search.SearchHitDTO;
+
+import java.util.List;
+
+// Búsqueda por texto completo y prefijo sobre tareas, empleados y proyectos.
+// La implementación se elige con search.engine: postgres (por defecto) o memory.
+public interface SearchEngine {
+    List<SearchHitDTO> search(String query, int limit);
+}
@@ -0,0 +1,102 @@
+package com.example.demoPersonal.search;
+
+import com.example.demoPersonal.dto.search.SearchHitType;
+import com.example.demoPersonal.entity.Employee;
+import com.example.demoPersonal.entity.Project;
+import com.example.demoPersonal.entity.Task;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+// Mantiene el índice en memoria al día a medida que se guardan o borran entidades. Con el motor de
+// PostgreSQL no hace nada: allí search_vector es una columna generada que actualiza la propia BD.
+// Los cambios se aplican tras el commit para que un rollback no deje entradas fantasma.
+@Component
+public class SearchIndexListener {
+    private final ObjectProvider<InMemorySearchEngine> index;
+
+    public SearchIndexListener(ObjectProvider<InMemorySearchEngine> index) {
+        this.index = index;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        InMemorySearchEngine engine = index.getIfAvailable();
+
+        if (engine == null) {
+            return;
+        }
+
+        if (entity instanceof Task task) {
+            afterCommit(() -> engine.index(SearchHitType.TASK, task.getUuid(), task.getDescription()));
+        } else if (entity instanceof Employee employee) {
+            afterCommit(() -> engine.index(SearchHitType.EMPLOYEE, employee.getUuid(), employee.getName()));
+        } else if (entity instanceof Project project) {
+            afterCommit(() -> engine.index(SearchHitType.PROJECT, project.getUuid(), project.getName()));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        InMemorySearchEngine engine = index.getIfAvailable();
+
+        if (engine == null) {
+            return;
+        }
+
+        if (entity instanceof Task task) {
+            afterCommit(() -> engine.remove(SearchHitType.TASK, task.getUuid()));
+        } else if (entity instanceof Employee employee) {
+            afterCommit(() -> engine.remove(SearchHitType.EMPLOYEE, employee.getUuid()));
+        } else if (entity instanceof Project project) {
+            afterCommit(() -> engine.remove(SearchHitType.PROJECT, project.getUuid()));
+        }
+    }
+
+    // Borrados masivos (JPQL o SQL directo): no pasan por @PostRemove
+    public void onBulkRemove(SearchHitType type, Collection<UUID> uuids) {
+        InMemorySearchEngine engine = index.getIfAvailable();
+
+        if (engine == null || uuids.isEmpty()) {
+            return;
+        }
+
+        afterCommit(() -> uuids.forEach(uuid -> engine.remove(type, uuid)));
+    }
+
+    // Altas masivas con SQL directo: documents solo se consulta si el índice en memoria está activo
+    public void onBulkSave(SearchHitType type, Supplier<Map<UUID, String>> documents) {
+        InMemorySearchEngine engine = index.getIfAvailable();
+
+        if (engine == null) {
+            return;
+        }
+
+        Map<UUID, String> indexed = documents.get();
+        afterCommit(() -> indexed.forEach((uuid, text) -> engine.index(type, uuid, text)));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demoPersonal.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// Mismo troceado que la configuración 'simple' de PostgreSQL: minúsculas y solo letras y dígitos
+final class SearchTokens {
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Términos más cortos solo coinciden como palabra completa: un prefijo de una o dos letras
+    // coincide con casi todas las filas y habría que puntuarlas todas
+    static final int MIN_PREFIX_LENGTH = 3;
+
+    private SearchTokens() {}
+
+    static List<String> of(String text) {
+        if (text == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    static boolean matchesPrefix(String term) {
+        return term.length() >= MIN_PREFIX_LENGTH;
+    }
+}
@@ -4,12 +4,14 @@ import com.example.demoPersonal.entity.Employee;
 import com.example.demoPersonal.repository.EmployeeRepository;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final EmployeeRepository  employeeRepository;
 
     public CustomUserDetailsService(EmployeeRepository employeeRepository) {
@@ -26,4 +28,19 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .authorities(employee.getRole().name())
                 .build();
     }
+
+    // Spring Security lo invoca tras un login correcto si el hash guardado usa un coste/algoritmo antiguo
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Employee employee = employeeRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+
+        employee.setPassword(newPassword);
+        employeeRepository.save(employee);
+
+        return User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
 }
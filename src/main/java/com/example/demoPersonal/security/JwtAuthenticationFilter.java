@@ -6,15 +6,18 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -24,13 +27,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final CustomUserDetailsService userDetailsService;
+    private final JwtTokenCache tokenCache;
+
+    // true: las authorities salen de los claims del token y no se consulta la BD en cada petición
+    private final boolean stateless;
 
     public JwtAuthenticationFilter(
             JwtService jwtService,
-            CustomUserDetailsService userDetailsService) {
+            CustomUserDetailsService userDetailsService,
+            JwtTokenCache tokenCache,
+            @Value("${security.jwt.stateless:false}") boolean stateless) {
 
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.tokenCache = tokenCache;
+        this.stateless = stateless;
     }
 
     @Override
@@ -51,42 +62,48 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // Extraer token
         String jwt = authHeader.substring(7);
-        String username;
+
+        // Token ya verificado y sin expirar: ni se vuelve a parsear ni se consulta la BD. La versión se comprueba
+        // igualmente (en memoria, con TokenVersionRegistry): otra instancia puede haberlo revocado
+        Optional<JwtTokenCache.CachedToken> cached = tokenCache.get(jwt);
+
+        if (cached.isPresent()) {
+            if (!jwtService.isTokenCurrent(cached.get().token())) {
+                log.warn("Revoked JWT for user = {}", cached.get().token().subject());
+            } else if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                authenticate(cached.get().userDetails(), request);
+            }
+
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        VerifiedToken verifiedToken;
 
         try {
-            username = jwtService.extractUsername(jwt);
-            log.debug("JWT found for user = {} in request {}", username, request.getRequestURI());
+            verifiedToken = jwtService.verify(jwt);
+            log.debug("JWT found for user = {} in request {}", verifiedToken.subject(), request.getRequestURI());
         } catch (Exception ex) {
-            log.warn("Failed to extract username from JWT in request {}", request.getRequestURI());
+            log.warn("Failed to verify JWT in request {}", request.getRequestURI());
             filterChain.doFilter(request, response);
             return;
         }
 
+        String username = verifiedToken.subject();
+
         // Validar token
         if (username != null
                 && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            UserDetails userDetails =
-                    userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = stateless
+                    ? fromClaims(verifiedToken)
+                    : userDetailsService.loadUserByUsername(username);
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (jwtService.isTokenValid(verifiedToken, userDetails)) {
                 log.info("JWT successfully validated for user = {}", username);
 
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
-
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource()
-                                .buildDetails(request)
-                );
-
-                SecurityContextHolder
-                        .getContext()
-                        .setAuthentication(authToken);
+                tokenCache.put(jwt, verifiedToken, userDetails);
+                authenticate(userDetails, request);
 
             } else {
                 log.warn("Invalid or expired JWT for user = {}", username);
@@ -96,6 +113,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails fromClaims(VerifiedToken verifiedToken) {
+        return User.withUsername(verifiedToken.subject())
+                .password("")
+                .authorities(verifiedToken.authorities().toArray(String[]::new))
+                .build();
+    }
+
+    private void authenticate(UserDetails userDetails, HttpServletRequest request) {
+        UsernamePasswordAuthenticationToken authToken =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        userDetails.getAuthorities()
+                );
+
+        authToken.setDetails(
+                new WebAuthenticationDetailsSource()
+                        .buildDetails(request)
+        );
+
+        SecurityContextHolder
+                .getContext()
+                .setAuthentication(authToken);
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getServletPath();
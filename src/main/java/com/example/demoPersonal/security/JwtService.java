@@ -1,16 +1,21 @@
 package com.example.demoPersonal.security;
 
+import com.example.demoPersonal.repository.projection.TokenVersion;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Component
 public class JwtService {
@@ -21,17 +26,31 @@ public class JwtService {
     // 24 horas, para buenas prácticas se suele usar 5 - 15 minutos.
     private static final long TOKEN_EXPIRATION = 1000 * 60 * 60 * 24;
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
+    // La clave y el parser son inmutables y thread-safe: se construyen una sola vez
+    private final Key signingKey;
+    private final JwtParser jwtParser;
 
-        return Keys.hmacShaKeyFor(keyBytes);
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    public JwtService(TokenVersionRegistry tokenVersionRegistry) {
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     public String generateToken(UserDetails userDetails) {
-        Map<String, Object> claims = Map.of("authorities", userDetails.getAuthorities()
-                .stream()
-                .map(GrantedAuthority::getAuthority)
-                .toList());
+        TokenVersion version = tokenVersionRegistry.currentVersion(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+
+        Map<String, Object> claims = Map.of(
+                "authorities", userDetails.getAuthorities()
+                        .stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .toList(),
+                "uid", version.uuid().toString(),
+                "ver", version.version());
 
         return generateToken(claims, userDetails.getUsername());
     }
@@ -42,29 +61,46 @@ public class JwtService {
                 .setSubject(subject)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + TOKEN_EXPIRATION))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String extractUsername(String token) {
-        return extractAllClaims(token).getSubject();
+    // Verifica la firma una única vez y devuelve todo lo necesario para autenticar la petición
+    public VerifiedToken verify(String token) {
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
+        List<?> authorities = claims.get("authorities", List.class);
+        String employeeUuid = claims.get("uid", String.class);
+        Long version = claims.get("ver", Long.class);
+
+        return new VerifiedToken(
+                claims.getSubject(),
+                authorities == null ? List.of() : authorities.stream().map(String::valueOf).toList(),
+                claims.getExpiration().toInstant(),
+                employeeUuid == null ? null : UUID.fromString(employeeUuid),
+                version == null ? 0L : version
+        );
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractAllClaims(token).getExpiration().before(new Date());
+    public String extractUsername(String token) {
+        return verify(token).subject();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        String username = extractUsername(token);
+        return isTokenValid(verify(token), userDetails);
+    }
 
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+        return token.subject().equals(userDetails.getUsername()) && isTokenCurrent(token);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // Sin expirar, del mismo empleado que hoy tiene ese email y no revocado. Una versión mayor que la
+    // conocida solo indica que la caché de esta instancia va por detrás: las versiones nunca bajan.
+    public boolean isTokenCurrent(VerifiedToken token) {
+        return !token.isExpired()
+                && tokenVersionRegistry.currentVersion(token.subject())
+                        .filter(current -> current.uuid().equals(token.employeeUuid())
+                                && token.version() >= current.version())
+                        .isPresent();
     }
 }
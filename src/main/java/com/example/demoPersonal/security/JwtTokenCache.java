@@ -0,0 +1,111 @@
+package com.example.demoPersonal.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+@Component
+public class JwtTokenCache {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtTokenCache.class);
+
+    private final Cache<String, CachedToken> cache;
+    private final Duration ttl;
+
+    public JwtTokenCache(
+            @Value("${security.jwt.cache.max-size:10000}") long maxSize,
+            @Value("${security.jwt.cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+
+        this.ttl = ttl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        // Mismas etiquetas que las cachés de Spring: Prometheus descarta métricas homónimas con otras etiquetas
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens",
+                "name", "jwt.verified-tokens", "cache.manager", "jwtTokenCache");
+    }
+
+    public Optional<CachedToken> get(String token) {
+        CachedToken cached = cache.getIfPresent(hash(token));
+
+        if (cached == null || cached.token().isExpired()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(cached);
+    }
+
+    // Con el token verificado: su uid y versión se siguen comprobando en cada acierto
+    public void put(String token, VerifiedToken verifiedToken, UserDetails userDetails) {
+        // Nunca guardamos el hash de la contraseña en memoria
+        UserDetails withoutCredentials = User.withUsername(userDetails.getUsername())
+                .password("")
+                .authorities(userDetails.getAuthorities())
+                .build();
+
+        cache.put(hash(token), new CachedToken(withoutCredentials, verifiedToken));
+    }
+
+    public void evictUser(String username) {
+        cache.asMap().values().removeIf(cached -> cached.userDetails().getUsername().equals(username));
+
+        log.debug("Verified JWTs evicted for user = {}", username);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    public record CachedToken(UserDetails userDetails, VerifiedToken token) {}
+
+    // La entrada vive como máximo el TTL configurado y nunca más que el propio token
+    private class TokenExpiry implements Expiry<String, CachedToken> {
+        @Override
+        public long expireAfterCreate(String key, CachedToken value, long currentTime) {
+            long untilTokenExpires = Duration.between(Instant.now(), value.token().expiresAt()).toNanos();
+
+            return Math.max(0, Math.min(ttl.toNanos(), untilTokenExpires));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
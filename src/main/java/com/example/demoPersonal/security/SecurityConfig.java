@@ -1,6 +1,9 @@
 package com.example.demoPersonal.security;
 
 import jakarta.servlet.DispatcherType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,13 +13,25 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+import java.util.Map;
+
 @EnableWebSecurity
 @Configuration
 public class SecurityConfig {
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final int MIN_BCRYPT_STRENGTH = 10;
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+    private static final int CALIBRATION_WARMUP = 3;
+    private static final int CALIBRATION_SAMPLES = 5;
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomUserDetailsService userDetailsService;
 
@@ -35,6 +50,7 @@ public class SecurityConfig {
                         .requestMatchers("/error").permitAll()
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        .requestMatchers("/actuator/dtocaches/**").hasRole("ADMIN")
                         .requestMatchers("/actuator/**").permitAll()
                         .anyRequest().hasRole("ADMIN")
                 )
@@ -49,8 +65,46 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.target-hash-time:0ms}") Duration targetHashTime) {
+
+        int tunedStrength = targetHashTime.isZero() ? strength : calibrateStrength(targetHashTime);
+
+        log.info("Using BCrypt strength {}", tunedStrength);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+                BCRYPT_ID, Map.of(BCRYPT_ID, new BCryptPasswordEncoder(tunedStrength)));
+
+        // Hashes antiguos sin prefijo {bcrypt} (p.ej. el admin del seed): se validan y se actualizan en el login
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+
+        return encoder;
+    }
+
+    // Mayor coste cuyo hash no supera el tiempo objetivo en esta máquina (cada +1 duplica el tiempo).
+    // Se calienta el JIT y se toma la mejor de varias muestras: una sola medida en frío sale lenta y baja el coste.
+    private static int calibrateStrength(Duration targetHashTime) {
+        int strength = MIN_BCRYPT_STRENGTH;
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+
+        for (int i = 0; i < CALIBRATION_WARMUP; i++) {
+            encoder.encode("calibration");
+        }
+
+        long elapsed = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            elapsed = Math.min(elapsed, System.nanoTime() - start);
+        }
+
+        while (strength < MAX_BCRYPT_STRENGTH && elapsed * 2 <= targetHashTime.toNanos()) {
+            strength++;
+            elapsed *= 2;
+        }
+
+        return strength;
     }
 
     @Bean
@@ -0,0 +1,52 @@
+package com.example.demoPersonal.security;
+
+import com.example.demoPersonal.entity.Employee;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class TokenRevocationService {
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final JwtTokenCache tokenCache;
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    public TokenRevocationService(TokenVersionRegistry tokenVersionRegistry, JwtTokenCache tokenCache) {
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.tokenCache = tokenCache;
+    }
+
+    // La versión sube en la transacción del cambio que revoca los tokens; username es el subject de esos tokens
+    public void revokeTokens(Employee employee, String username) {
+        employee.setTokenVersion(employee.getTokenVersion() + 1);
+        evictUser(username);
+
+        log.info("Tokens revoked for user = {} (token version = {})", username, employee.getTokenVersion());
+    }
+
+    // Tras borrar el empleado no hay versión con la que validar sus tokens: basta con olvidar las cachés
+    public void evictUser(String username) {
+        afterCommit(() -> {
+            tokenVersionRegistry.evict(username);
+            tokenCache.evictUser(username);
+        });
+    }
+
+    // Antes del commit otra petición podría volver a cachear la versión antigua
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demoPersonal.security;
+
+import com.example.demoPersonal.repository.EmployeeRepository;
+import com.example.demoPersonal.repository.projection.TokenVersion;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// Versión de token por usuario, guardada en employees.token_version. Cada JWT lleva el uuid del empleado y la
+// versión vigente al emitirse, y deja de ser válido si la versión avanza (cambio de email o baja) o si el
+// email pasa a ser de otro empleado. La caché solo evita consultas: otra instancia ve la revocación, como
+// mucho, tras el mismo TTL que la caché de tokens verificados.
+@Component
+public class TokenVersionRegistry {
+    private final EmployeeRepository employeeRepository;
+    private final Cache<String, TokenVersion> versions;
+
+    public TokenVersionRegistry(
+            EmployeeRepository employeeRepository,
+            @Value("${security.jwt.cache.max-size:10000}") long maxSize,
+            @Value("${security.jwt.cache.ttl:5m}") Duration ttl) {
+
+        this.employeeRepository = employeeRepository;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // Vacío si el usuario ya no existe
+    public Optional<TokenVersion> currentVersion(String username) {
+        return Optional.ofNullable(versions.get(username,
+                key -> employeeRepository.findTokenVersionByEmail(key).orElse(null)));
+    }
+
+    public void evict(String username) {
+        versions.invalidate(username);
+    }
+}
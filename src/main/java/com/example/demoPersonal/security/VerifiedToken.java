@@ -0,0 +1,21 @@
+package com.example.demoPersonal.security;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record VerifiedToken(
+        String subject,
+        List<String> authorities,
+        Instant expiresAt,
+        UUID employeeUuid,
+        long version
+) {
+    public VerifiedToken {
+        authorities = authorities == null ? List.of() : List.copyOf(authorities);
+    }
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(Instant.now());
+    }
+}
@@ -8,6 +8,7 @@ import com.example.demoPersonal.entity.enums.Role;
 import com.example.demoPersonal.exception.EmployeeExistsException;
 import com.example.demoPersonal.repository.EmployeeRepository;
 import com.example.demoPersonal.security.JwtService;
+import com.example.demoPersonal.security.PasswordHashingExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,6 +18,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -28,19 +30,23 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final UserDetailsService userDetailsService;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     private static final Logger log = LoggerFactory.getLogger(AuthService.class);
 
     public AuthService(EmployeeRepository employeeRepository, JwtService jwtService,
                        AuthenticationManager authenticationManager, UserDetailsService userDetailsService,
-                       PasswordEncoder passwordEncoder) {
+                       PasswordEncoder passwordEncoder, PasswordHashingExecutor passwordHashingExecutor) {
         this.employeeRepository = employeeRepository;
         this.jwtService = jwtService;
         this.authenticationManager = authenticationManager;
         this.userDetailsService = userDetailsService;
         this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
+    // Sin transacción envolvente: no se retiene una conexión de BD mientras se espera al pool de BCrypt
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponseDTO register(RegisterRequestDTO dto) {
         String email = dto.email().toLowerCase();
 
@@ -53,19 +59,13 @@ public class AuthService {
         Employee employee = new Employee();
         employee.setName(dto.name());
         employee.setEmail(email);
-        employee.setPassword(passwordEncoder.encode(dto.password()));
+        employee.setPassword(passwordHashingExecutor.execute(() -> passwordEncoder.encode(dto.password())));
         employee.setPosition(dto.position());
         employee.setRole(Role.ROLE_USER);
 
         Employee saved = employeeRepository.save(employee);
 
-        Authentication authToken = new UsernamePasswordAuthenticationToken(
-                saved.getEmail(),
-                dto.password()
-        );
-
-        authenticationManager.authenticate(authToken);
-
+        // Acabamos de generar el hash: no hace falta volver a verificar la contraseña
         UserDetails userDetails = userDetailsService.loadUserByUsername(saved.getEmail());
         String token = jwtService.generateToken(userDetails);
         log.info("Registration successfull for {}", saved.getEmail());
@@ -73,6 +73,7 @@ public class AuthService {
         return new AuthResponseDTO(token);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponseDTO login(LoginRequestDTO dto) {
         String email = dto.email().toLowerCase();
 
@@ -82,7 +83,7 @@ public class AuthService {
                 email,
                 dto.password());
 
-        authenticationManager.authenticate(authToken);
+        passwordHashingExecutor.execute(() -> authenticationManager.authenticate(authToken));
 
         UserDetails userDetails = userDetailsService.loadUserByUsername(email);
         String token = jwtService.generateToken(userDetails);
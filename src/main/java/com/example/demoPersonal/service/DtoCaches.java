@@ -0,0 +1,65 @@
+package com.example.demoPersonal.service;
+
+import com.example.demoPersonal.repository.EmployeeRepository;
+import com.example.demoPersonal.repository.projection.EmployeeCacheKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+// Cachés de DTOs de lectura (ver CacheConfig) e invalidación explícita desde los métodos que escriben.
+// El CacheManager es transaccional: dentro de una transacción, la invalidación se aplica tras el commit.
+@Component
+public class DtoCaches {
+    public static final String PROJECTS = "project-dtos";
+    public static final String EMPLOYEES = "employee-dtos";
+    public static final String EMPLOYEES_BY_EMAIL = "employee-dtos-by-email";
+
+    private static final Logger log = LoggerFactory.getLogger(DtoCaches.class);
+
+    private final CacheManager cacheManager;
+    private final EmployeeRepository employeeRepository;
+
+    public DtoCaches(CacheManager cacheManager, EmployeeRepository employeeRepository) {
+        this.cacheManager = cacheManager;
+        this.employeeRepository = employeeRepository;
+    }
+
+    public void evictProject(UUID uuid) {
+        evict(PROJECTS, uuid);
+    }
+
+    public void evictEmployee(UUID uuid, String email) {
+        evict(EMPLOYEES, uuid);
+        evict(EMPLOYEES_BY_EMAIL, email);
+    }
+
+    // Los DTOs de empleado incluyen nombre y uuid de sus proyectos.
+    // Hay que llamarlo antes de borrar el proyecto, mientras la relación aún existe.
+    public void evictEmployeesOfProject(UUID projectUuid) {
+        evictEmployees(employeesOfProject(projectUuid));
+    }
+
+    // Para invalidar después de quitar la relación, cuando ya no se pueden consultar los miembros
+    public List<EmployeeCacheKey> employeesOfProject(UUID projectUuid) {
+        return employeeRepository.findCacheKeysByProjectUuid(projectUuid);
+    }
+
+    public void evictEmployees(List<EmployeeCacheKey> keys) {
+        keys.forEach(key -> evictEmployee(key.uuid(), key.email()));
+
+        log.debug("Evicted {} cached employees", keys.size());
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+}
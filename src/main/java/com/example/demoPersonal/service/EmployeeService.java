@@ -2,47 +2,66 @@ package com.example.demoPersonal.service;
 
 import com.example.demoPersonal.dto.employee.EmployeeRequestDTO;
 import com.example.demoPersonal.dto.employee.EmployeeResponseDTO;
+import com.example.demoPersonal.dto.page.CursorPageResponseDTO;
 import com.example.demoPersonal.dto.task.TaskResponseDTO;
 import com.example.demoPersonal.entity.Employee;
 import com.example.demoPersonal.entity.Project;
 import com.example.demoPersonal.entity.enums.Position;
 import com.example.demoPersonal.exception.EmployeeExistsException;
 import com.example.demoPersonal.exception.EmployeeNotFoundException;
+import com.example.demoPersonal.exception.InvalidReassignmentException;
 import com.example.demoPersonal.exception.ProjectNotFoundException;
 import com.example.demoPersonal.mapper.employee.EmployeeMapper;
-import com.example.demoPersonal.mapper.task.TaskMapper;
 import com.example.demoPersonal.repository.EmployeeRepository;
 import com.example.demoPersonal.repository.ProjectRepository;
+import com.example.demoPersonal.repository.TaskRepository;
+import com.example.demoPersonal.repository.projection.CollectionVersion;
+import com.example.demoPersonal.repository.projection.EmployeeProjectRow;
+import com.example.demoPersonal.repository.projection.EmployeeVersion;
+import com.example.demoPersonal.repository.projection.KeysetKey;
+import com.example.demoPersonal.security.TokenRevocationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class EmployeeService {
     private final EmployeeRepository employeeRepository;
     private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
 
     private final EmployeeMapper employeeMapper;
-    private final TaskMapper taskMapper;
 
     private static final Logger log = LoggerFactory.getLogger(EmployeeService.class);
 
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
+    private final DtoCaches dtoCaches;
 
     public EmployeeService(EmployeeRepository employeeRepository, ProjectRepository projectRepository,
-                           EmployeeMapper employeeMapper, TaskMapper taskMapper, PasswordEncoder passwordEncoder) {
+                           TaskRepository taskRepository, EmployeeMapper employeeMapper, PasswordEncoder passwordEncoder,
+                           TokenRevocationService tokenRevocationService, DtoCaches dtoCaches) {
         this.employeeRepository = employeeRepository;
         this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
         this.employeeMapper = employeeMapper;
-        this.taskMapper = taskMapper;
         this.passwordEncoder = passwordEncoder;
+        this.tokenRevocationService = tokenRevocationService;
+        this.dtoCaches = dtoCaches;
     }
 
     private Employee findByUuidOrThrow(UUID uuid) {
@@ -74,26 +93,66 @@ public class EmployeeService {
         return employeeMapper.toDTO(saved);
     }
 
+    private EmployeeResponseDTO singleOrThrow(List<EmployeeProjectRow> rows, Supplier<EmployeeNotFoundException> notFound) {
+        return employeeMapper.toDTOs(rows).stream().findFirst().orElseThrow(notFound);
+    }
+
     @Transactional(readOnly = true)
-    public EmployeeResponseDTO getEmployeeByUuid(UUID uuid) {
-       Employee employee = findByUuidOrThrow(uuid);
+    public Optional<String> getEmployeeVersion(UUID uuid) {
+        return employeeRepository.findVersionByUuid(uuid).map(EmployeeVersion::tag);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> getCurrentEmployeeVersion(String email) {
+        return employeeRepository.findVersionByEmail(email.toLowerCase()).map(EmployeeVersion::tag);
+    }
 
-       return employeeMapper.toDTO(employee);
+    @Cacheable(DtoCaches.EMPLOYEES)
+    @Transactional(readOnly = true)
+    public EmployeeResponseDTO getEmployeeByUuid(UUID uuid) {
+       return singleOrThrow(employeeRepository.findRowsByUuid(uuid), () -> new EmployeeNotFoundException(uuid));
     }
 
+    @Cacheable(cacheNames = DtoCaches.EMPLOYEES_BY_EMAIL, key = "#email.toLowerCase()")
     @Transactional(readOnly = true)
     public EmployeeResponseDTO getCurrentEmployee(String email) {
         String normalizedEmail = email.toLowerCase();
 
-        Employee currentEmployee = employeeRepository.findByEmail(normalizedEmail)
-                .orElseThrow(() -> new EmployeeNotFoundException(email));
-
-        return employeeMapper.toDTO(currentEmployee);
+        return singleOrThrow(employeeRepository.findRowsByEmail(normalizedEmail),
+                () -> new EmployeeNotFoundException(email));
     }
 
     @Transactional(readOnly = true)
     public List<EmployeeResponseDTO> getAllEmployees(Pageable pageable) {
-        return employeeRepository.findAll(pageable).stream().map(employeeMapper::toDTO).toList();
+        return findInOrder(employeeRepository.findUuids(Pages.orderedById(pageable)).getContent());
+    }
+
+    @Transactional(readOnly = true)
+    public void exportEmployees(Consumer<? super EmployeeResponseDTO> consumer) {
+        try (Stream<EmployeeProjectRow> rows = employeeRepository.streamAllRows()) {
+            employeeMapper.forEachDTO(rows, consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<EmployeeResponseDTO> scrollEmployees(String cursor, int size) {
+        int limit = KeysetCursor.clampSize(size);
+        PageRequest firstPage = PageRequest.ofSize(limit + 1);
+
+        List<KeysetKey> keys = cursor == null || cursor.isBlank()
+                ? employeeRepository.findFirstKeys(firstPage)
+                : employeeRepository.findKeysAfter(KeysetCursor.decode(cursor), firstPage);
+
+        return KeysetCursor.page(keys, limit, KeysetKey::id,
+                page -> findInOrder(page.stream().map(KeysetKey::uuid).toList()));
+    }
+
+    private List<EmployeeResponseDTO> findInOrder(List<UUID> uuids) {
+        if (uuids.isEmpty()) {
+            return List.of();
+        }
+
+        return employeeMapper.toDTOs(employeeRepository.findRowsByUuidIn(uuids), uuids);
     }
 
     public EmployeeResponseDTO updateEmployee(UUID uuid, EmployeeRequestDTO dto) {
@@ -108,62 +167,117 @@ public class EmployeeService {
             throw new EmployeeExistsException(email);
         }
 
+        String previousEmail = employee.getEmail();
+
         employee.setName(dto.name());
         employee.setEmail(email);
         employee.setPosition(dto.position());
 
+        if (!email.equalsIgnoreCase(previousEmail)) {
+            tokenRevocationService.revokeTokens(employee, previousEmail);
+        }
+
         Employee updated = employeeRepository.save(employee);
 
+        dtoCaches.evictEmployee(uuid, previousEmail);
+
         log.info("Employee updated successfully with email={}", email);
 
         return employeeMapper.toDTO(updated);
     }
 
     public void removeEmployee(UUID uuid) {
+        removeEmployee(uuid, null);
+    }
+
+    // Las tareas se desasignan (o pasan a reassignTo) con un UPDATE; employee_projects lo limpia Hibernate
+    // con un único DELETE por empleado. Ninguna de las dos colecciones se carga.
+    public void removeEmployee(UUID uuid, UUID reassignTo) {
         Employee employee = findByUuidOrThrow(uuid);
 
+        if (reassignTo == null) {
+            int unassigned = taskRepository.unassignEmployeeTasks(employee, LocalDateTime.now());
+            log.info("{} tasks of employee {} unassigned", unassigned, uuid);
+        } else {
+            if (reassignTo.equals(uuid)) {
+                throw new InvalidReassignmentException(uuid);
+            }
+
+            Employee target = findByUuidOrThrow(reassignTo);
+            int reassigned = taskRepository.reassignEmployeeTasks(employee, target, LocalDateTime.now());
+            log.info("{} tasks of employee {} reassigned to {}", reassigned, uuid, reassignTo);
+        }
+
         employeeRepository.delete(employee);
+        dtoCaches.evictEmployee(uuid, employee.getEmail());
+        tokenRevocationService.evictUser(employee.getEmail());
         log.info("Employee with id={} removed", uuid);
     }
 
+    @Cacheable(cacheNames = DtoCaches.EMPLOYEES_BY_EMAIL, key = "#email.toLowerCase()")
     @Transactional(readOnly = true)
     public EmployeeResponseDTO getEmployeeByEmail(String email) {
         String emailNormalized = email.toLowerCase();
 
-        Employee employee = employeeRepository.findByEmail(emailNormalized)
-                .orElseThrow(() -> new EmployeeNotFoundException(emailNormalized));
+        return singleOrThrow(employeeRepository.findRowsByEmail(emailNormalized),
+                () -> new EmployeeNotFoundException(emailNormalized));
+    }
 
-        return employeeMapper.toDTO(employee);
+    @Transactional(readOnly = true)
+    public List<EmployeeResponseDTO> getEmployeeByName(String name, Pageable pageable) {
+        return findInOrder(employeeRepository.findUuidsByName(name, Pages.orderedById(pageable)));
     }
 
     @Transactional(readOnly = true)
-    public List<EmployeeResponseDTO> getEmployeeByName(String name) {
-        return employeeRepository.findByNameIgnoreCase(name).stream().map(employeeMapper::toDTO).toList();
+    public List<EmployeeResponseDTO> getEmployeesByPosition(Position position, Pageable pageable) {
+        return findInOrder(employeeRepository.findUuidsByPosition(position, Pages.orderedById(pageable)));
     }
 
     @Transactional(readOnly = true)
-    public List<EmployeeResponseDTO> getEmployeesByPosition(Position position) {
-        return employeeRepository.findByPosition(position).stream().map(employeeMapper::toDTO).toList();
+    public void checkEmployeeExists(UUID uuid) {
+        if (!employeeRepository.existsByUuid(uuid)) {
+            throw new EmployeeNotFoundException(uuid);
+        }
     }
 
     @Transactional(readOnly = true)
-    public List<TaskResponseDTO> getEmployeeTasks(UUID uuid) {
-        Employee employee = findByUuidOrThrow(uuid);
+    public CollectionVersion getEmployeeTasksVersion(UUID uuid) {
+        return taskRepository.findVersionByEmployeeUuid(uuid);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> getEmployeeTasks(UUID uuid, Pageable pageable) {
+        checkEmployeeExists(uuid);
+
+        return taskRepository.findDTOByEmployeeUuid(uuid, Pages.orderedById(pageable));
+    }
+
+    // El controlador comprueba antes que el empleado existe: aquí la respuesta ya se está escribiendo
+    @Transactional(readOnly = true)
+    public void streamEmployeeTasks(UUID uuid, Consumer<? super TaskResponseDTO> consumer) {
+        try (Stream<TaskResponseDTO> tasks = taskRepository.streamDTOByEmployeeUuid(uuid)) {
+            tasks.forEach(consumer);
+        }
+    }
 
-        return employee.getTasks().stream().map(taskMapper::toDTO).toList();
+    @Transactional(readOnly = true)
+    public CollectionVersion getCurrentEmployeeTasksVersion(String email) {
+        return taskRepository.findVersionByEmployeeEmail(email.toLowerCase());
     }
 
     @Transactional(readOnly = true)
-    public List<TaskResponseDTO> getCurrentEmployeeTasks(String email) {
+    public List<TaskResponseDTO> getCurrentEmployeeTasks(String email, Pageable pageable) {
         String emailNormalized = email.toLowerCase();
 
-        Employee currentEmployee = employeeRepository.findByEmail(emailNormalized)
-                .orElseThrow(() -> new EmployeeNotFoundException(emailNormalized));
+        if (!employeeRepository.existsByEmail(emailNormalized)) {
+            throw new EmployeeNotFoundException(emailNormalized);
+        }
 
-        return currentEmployee.getTasks().stream().map(taskMapper::toDTO).toList();
+        return taskRepository.findDTOByEmployeeEmail(emailNormalized, Pages.orderedById(pageable));
     }
 
-
+    // Una fila de employee_projects: no se carga ninguna de las dos colecciones
+    @RetryOnConflict
     public EmployeeResponseDTO assignProject(UUID employeeUuid, UUID projectUuid) {
         log.info("Assigning project {} to employee {}", projectUuid, employeeUuid);
 
@@ -171,15 +285,18 @@ public class EmployeeService {
         Project project = projectRepository.findByUuid(projectUuid).orElseThrow(()
                 -> new ProjectNotFoundException(projectUuid));
 
-        employee.addProject(project);
-
-        Employee updated = employeeRepository.save(employee);
-
-        log.info("Project {} assigned to employee {}", project.getName(), updated.getUuid());
+        if (employeeRepository.addProjectMembers(project, List.of(employee)) == 0) {
+            log.info("Employee {} already belongs to project {}", employeeUuid, projectUuid);
+        } else {
+            dtoCaches.evictEmployee(employeeUuid, employee.getEmail());
+            log.info("Project {} assigned to employee {}", project.getName(), employeeUuid);
+        }
 
-        return employeeMapper.toDTO(updated);
+        return singleOrThrow(employeeRepository.findRowsByUuid(employeeUuid),
+                () -> new EmployeeNotFoundException(employeeUuid));
     }
 
+    @RetryOnConflict
     public EmployeeResponseDTO unassignProject(UUID employeeUuid, UUID projectUuid) {
         log.info("Unassigning project {} to employee {}", employeeUuid, projectUuid);
 
@@ -187,11 +304,14 @@ public class EmployeeService {
         Project project = projectRepository.findByUuid(projectUuid).orElseThrow(() ->
                 new ProjectNotFoundException(projectUuid));
 
-        employee.removeProject(project);
-
-        Employee updated = employeeRepository.save(employee);
+        if (employeeRepository.removeProjectMembers(project, List.of(employee)) == 0) {
+            log.info("Employee {} does not belong to project {}", employeeUuid, projectUuid);
+        } else {
+            dtoCaches.evictEmployee(employeeUuid, employee.getEmail());
+            log.info("Project {} unassigned to employee {}", project.getName(), employee.getName());
+        }
 
-        log.info("Project {} unassigned to employee {}", project.getName(), employee.getName());
-        return employeeMapper.toDTO(updated);
+        return singleOrThrow(employeeRepository.findRowsByUuid(employeeUuid),
+                () -> new EmployeeNotFoundException(employeeUuid));
     }
 }
@@ -0,0 +1,58 @@
+package com.example.demoPersonal.service;
+
+import com.example.demoPersonal.dto.page.CursorPageResponseDTO;
+import com.example.demoPersonal.exception.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+// Cursor opaco para paginación keyset: el id del último elemento devuelto, en Base64 URL.
+// El orden es siempre por id ascendente (orden de creación), así que las páginas son estables
+// aunque se inserten o borren filas mientras se recorre, incluida la propia fila del cursor.
+final class KeysetCursor {
+    static final int MAX_SIZE = 100;
+
+    private KeysetCursor() {}
+
+    static String encode(long id) {
+        byte[] bytes = ByteBuffer.allocate(Long.BYTES).putLong(id).array();
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static long decode(String cursor) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+
+            if (bytes.length != Long.BYTES) {
+                throw new InvalidCursorException(cursor);
+            }
+
+            return ByteBuffer.wrap(bytes).getLong();
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    // rows trae un elemento de más para saber si hay página siguiente sin hacer COUNT;
+    // toItems convierte solo las filas de la página
+    static <R, T> CursorPageResponseDTO<T> page(List<R> rows, int size, ToLongFunction<R> idOf,
+                                                Function<List<R>, List<T>> toItems) {
+        if (rows.size() <= size) {
+            return new CursorPageResponseDTO<>(toItems.apply(rows), null);
+        }
+
+        List<R> page = rows.subList(0, size);
+
+        String next = encode(idOf.applyAsLong(page.get(size - 1)));
+
+        return new CursorPageResponseDTO<>(List.copyOf(toItems.apply(page)), next);
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.demoPersonal.service;
+
+import com.example.demoPersonal.dto.project.ProjectDeletionJobDTO;
+import com.example.demoPersonal.dto.project.ProjectDeletionStatus;
+import com.example.demoPersonal.exception.ProjectDeletionNotFoundException;
+import com.example.demoPersonal.exception.ProjectNotFoundException;
+import com.example.demoPersonal.exception.ServiceBusyException;
+import com.example.demoPersonal.repository.ProjectRepository;
+import com.example.demoPersonal.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Proyectos con muchas tareas se borran en segundo plano: la petición responde 202 con un trabajo cuyo
+// progreso se consulta después. Los trabajos viven en memoria; un reinicio pierde su estado pero no los datos,
+// porque cada tramo de tareas ya está confirmado y basta con volver a borrar el proyecto.
+@Service
+public class ProjectDeletionJobs {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectDeletionJobs.class);
+
+    private final ProjectService projectService;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+
+    private final long asyncThreshold;
+    private final Duration retention;
+
+    private final ThreadPoolExecutor threadPool;
+    private final ExecutorService executor;
+    private final Map<UUID, Job> jobs = new ConcurrentHashMap<>();
+
+    public ProjectDeletionJobs(
+            ProjectService projectService,
+            ProjectRepository projectRepository,
+            TaskRepository taskRepository,
+            @Value("${project.deletion.async-threshold:10000}") long asyncThreshold,
+            @Value("${project.deletion.queue-capacity:16}") int queueCapacity,
+            @Value("${project.deletion.retention:1h}") Duration retention,
+            MeterRegistry meterRegistry) {
+
+        this.projectService = projectService;
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.asyncThreshold = asyncThreshold;
+        this.retention = retention;
+
+        // Un solo hilo: dos borrados grandes a la vez solo competirían por la misma BD
+        this.threadPool = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "project-deletion");
+                    thread.setDaemon(true);
+
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, "project-deletion");
+    }
+
+    // Vacío si el proyecto ya se ha borrado; si no, el trabajo que lo está borrando
+    public Optional<ProjectDeletionJobDTO> removeOrSchedule(UUID projectUuid) {
+        // Mientras un trabajo borra por tramos las tareas bajan del umbral: se devuelve ese trabajo en lugar de
+        // borrar en línea a la vez que él
+        Optional<Job> active = activeJob(projectUuid);
+
+        if (active.isPresent()) {
+            return Optional.of(active.get().toDTO());
+        }
+
+        if (!projectRepository.existsByUuid(projectUuid)) {
+            throw new ProjectNotFoundException(projectUuid);
+        }
+
+        long tasks = taskRepository.findVersionByProjectUuid(projectUuid).count();
+
+        if (tasks <= asyncThreshold) {
+            projectService.removeProject(projectUuid);
+            return Optional.empty();
+        }
+
+        return Optional.of(schedule(projectUuid, tasks));
+    }
+
+    public ProjectDeletionJobDTO getJob(UUID id) {
+        Job job = jobs.get(id);
+
+        if (job == null) {
+            throw new ProjectDeletionNotFoundException(id);
+        }
+
+        return job.toDTO();
+    }
+
+    private synchronized ProjectDeletionJobDTO schedule(UUID projectUuid, long tasks) {
+        pruneFinished();
+
+        Optional<Job> active = activeJob(projectUuid);
+
+        if (active.isPresent()) {
+            return active.get().toDTO();
+        }
+
+        Job job = new Job(UUID.randomUUID(), projectUuid, tasks);
+        jobs.put(job.id, job);
+
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.id);
+            log.warn("Project deletion queue full (queue = {})", threadPool.getQueue().size());
+
+            throw new ServiceBusyException("Project deletion");
+        }
+
+        log.info("Project {} with {} tasks scheduled for deletion (job {})", projectUuid, tasks, job.id);
+
+        return job.toDTO();
+    }
+
+    private Optional<Job> activeJob(UUID projectUuid) {
+        return jobs.values().stream()
+                .filter(job -> job.projectUuid.equals(projectUuid) && job.finishedAt == null)
+                .findFirst();
+    }
+
+    private void run(Job job) {
+        job.startedAt = Instant.now();
+        job.status = ProjectDeletionStatus.RUNNING;
+
+        try {
+            projectService.removeProject(job.projectUuid, job.deletedTasks::set);
+            job.status = ProjectDeletionStatus.COMPLETED;
+        } catch (ProjectNotFoundException ex) {
+            // Otra petición lo borró mientras esperaba en la cola
+            job.status = ProjectDeletionStatus.COMPLETED;
+        } catch (RuntimeException ex) {
+            log.error("Project deletion job {} failed after {} tasks", job.id, job.deletedTasks.get(), ex);
+
+            job.error = ex.getMessage();
+            job.status = ProjectDeletionStatus.FAILED;
+        } finally {
+            job.finishedAt = Instant.now();
+        }
+    }
+
+    private void pruneFinished() {
+        Instant limit = Instant.now().minus(retention);
+
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(limit));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        threadPool.shutdown();
+    }
+
+    private static final class Job {
+        private final UUID id;
+        private final UUID projectUuid;
+        private final long totalTasks;
+        private final AtomicLong deletedTasks = new AtomicLong();
+
+        private volatile ProjectDeletionStatus status = ProjectDeletionStatus.PENDING;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile String error;
+
+        private Job(UUID id, UUID projectUuid, long totalTasks) {
+            this.id = id;
+            this.projectUuid = projectUuid;
+            this.totalTasks = totalTasks;
+        }
+
+        private ProjectDeletionJobDTO toDTO() {
+            return new ProjectDeletionJobDTO(id, projectUuid, status, totalTasks, deletedTasks.get(), startedAt,
+                    finishedAt, error);
+        }
+    }
+}
@@ -1,38 +1,68 @@
 package com.example.demoPersonal.service;
 
 import com.example.demoPersonal.dto.employee.EmployeeResponseDTO;
+import com.example.demoPersonal.dto.project.ProjectCloneRequestDTO;
+import com.example.demoPersonal.dto.project.ProjectMembersResponseDTO;
 import com.example.demoPersonal.dto.project.ProjectRequestDTO;
 import com.example.demoPersonal.dto.project.ProjectResponseDTO;
+import com.example.demoPersonal.dto.search.SearchHitType;
 import com.example.demoPersonal.dto.task.TaskResponseDTO;
+import com.example.demoPersonal.entity.Employee;
 import com.example.demoPersonal.entity.Project;
 import com.example.demoPersonal.exception.ProjectNotFoundException;
 import com.example.demoPersonal.mapper.employee.EmployeeMapper;
 import com.example.demoPersonal.mapper.project.ProjectMapper;
-import com.example.demoPersonal.mapper.task.TaskMapper;
+import com.example.demoPersonal.repository.EmployeeRepository;
 import com.example.demoPersonal.repository.ProjectRepository;
+import com.example.demoPersonal.repository.TaskRepository;
+import com.example.demoPersonal.repository.projection.CollectionVersion;
+import com.example.demoPersonal.repository.projection.EmployeeCacheKey;
+import com.example.demoPersonal.search.SearchIndexListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ProjectService {
     private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final EmployeeRepository employeeRepository;
 
     private final ProjectMapper projectMapper;
-    private final TaskMapper taskMapper;
     private final EmployeeMapper employeeMapper;
+    private final DtoCaches dtoCaches;
+
+    private final SearchIndexListener searchIndexListener;
+
+    private static final int TASK_DELETE_CHUNK = 1000;
 
     private static final Logger log = LoggerFactory.getLogger(ProjectService.class);
 
-    public ProjectService(ProjectRepository projectRepository, ProjectMapper projectMapper, TaskMapper taskMapper,
-                          EmployeeMapper employeeMapper) {
+    public ProjectService(ProjectRepository projectRepository, TaskRepository taskRepository,
+                          EmployeeRepository employeeRepository, ProjectMapper projectMapper,
+                          EmployeeMapper employeeMapper, DtoCaches dtoCaches,
+                          SearchIndexListener searchIndexListener) {
         this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.employeeRepository = employeeRepository;
         this.projectMapper = projectMapper;
-        this.taskMapper = taskMapper;
         this.employeeMapper = employeeMapper;
+        this.dtoCaches = dtoCaches;
+        this.searchIndexListener = searchIndexListener;
     }
 
     private Project findProjectOrThrow(UUID uuid) {
@@ -51,20 +81,66 @@ public class ProjectService {
         return projectMapper.toDTO(saved);
     }
 
+    // La copia entera son dos INSERT ... SELECT en la BD, sin importar cuántas tareas tenga el proyecto.
+    // Las tareas nuevas empiezan en TODO y sin asignar; los miembros solo se copian si se pide.
+    @Transactional
+    public ProjectResponseDTO cloneProject(UUID uuid, ProjectCloneRequestDTO dto) {
+        Project source = findProjectOrThrow(uuid);
+
+        Project project = new Project();
+        project.setName(dto.name());
+
+        Project saved = projectRepository.saveAndFlush(project);
+
+        int tasks = projectRepository.copyTasks(source, saved);
+        searchIndexListener.onBulkSave(SearchHitType.TASK, () -> {
+            try (Stream<TaskResponseDTO> copied = taskRepository.streamDTOByProjectUuid(saved.getUuid())) {
+                return copied.collect(Collectors.toMap(TaskResponseDTO::uuid, TaskResponseDTO::description));
+            }
+        });
+
+        int members = 0;
+        if (dto.includeEmployees()) {
+            members = projectRepository.copyMemberships(source, saved);
+            dtoCaches.evictEmployeesOfProject(saved.getUuid());
+        }
+
+        log.info("Project {} cloned into {} (id={}) with {} tasks and {} members.", uuid, saved.getName(),
+                saved.getId(), tasks, members);
+
+        return projectMapper.toDTO(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> getProjectVersion(UUID uuid) {
+        return projectRepository.findVersionByUuid(uuid).map(String::valueOf);
+    }
+
+    @Cacheable(DtoCaches.PROJECTS)
+    @Transactional(readOnly = true)
     public ProjectResponseDTO getProjectByUuid(UUID uuid) {
-        Project project = findProjectOrThrow(uuid);
+        return projectRepository.findDTOByUuid(uuid).orElseThrow(() -> new ProjectNotFoundException(uuid));
+    }
 
-        return projectMapper.toDTO(project);
+    @Transactional(readOnly = true)
+    public List<ProjectResponseDTO> getAllProjects(Pageable pageable) {
+        return projectRepository.findAllDTO(Pages.orderedById(pageable));
     }
 
-    public List<ProjectResponseDTO> getAllProjects() {
-        return projectRepository.findAll().stream().map(projectMapper::toDTO).toList();
+    @Transactional(readOnly = true)
+    public void streamAllProjects(Consumer<? super ProjectResponseDTO> consumer) {
+        try (Stream<ProjectResponseDTO> projects = projectRepository.streamAllDTO()) {
+            projects.forEach(consumer);
+        }
     }
 
-    public List<ProjectResponseDTO> getProjectsByName(String name) {
-        return projectRepository.findByName(name).stream().map(projectMapper::toDTO).toList();
+    @Transactional(readOnly = true)
+    public List<ProjectResponseDTO> getProjectsByName(String name, Pageable pageable) {
+        return projectRepository.findDTOByName(name, Pages.orderedById(pageable));
     }
 
+    @RetryOnConflict
+    @Transactional
     public ProjectResponseDTO updateProject(UUID uuid, ProjectRequestDTO dto) {
         Project project = findProjectOrThrow(uuid);
 
@@ -72,29 +148,119 @@ public class ProjectService {
 
         Project updated = projectRepository.save(project);
 
+        dtoCaches.evictProject(uuid);
+        dtoCaches.evictEmployeesOfProject(uuid);
+
         log.info("Project {} (id={}) updated successfully.", updated.getName(), updated.getId());
 
         return projectMapper.toDTO(updated);
     }
 
     public void removeProject(UUID uuid) {
+        removeProject(uuid, deleted -> {});
+    }
+
+    // Sin transacción que lo envuelva: cada tramo de tareas se confirma por separado, así que no se cargan
+    // en memoria ni se bloquean todas a la vez. El proyecto se borra al final, con sus tareas ya borradas.
+    public void removeProject(UUID uuid, LongConsumer deletedTasks) {
         Project project = findProjectOrThrow(uuid);
 
-        projectRepository.delete(project);
+        // Se invalida después de borrar la relación: una lectura entre medias volvería a cachear el proyecto
+        List<EmployeeCacheKey> members = dtoCaches.employeesOfProject(uuid);
+        projectRepository.deleteMemberships(project);
+        dtoCaches.evictEmployees(members);
+
+        long deleted = 0;
+        List<UUID> chunk;
+
+        do {
+            chunk = projectRepository.deleteTasks(project, TASK_DELETE_CHUNK);
+            searchIndexListener.onBulkRemove(SearchHitType.TASK, chunk);
+
+            deleted += chunk.size();
+            deletedTasks.accept(deleted);
+        } while (chunk.size() == TASK_DELETE_CHUNK);
 
-        log.info("Project {} (UUID={}) removed successfully.", project.getName(), project.getId());
+        projectRepository.deleteProject(project);
+
+        dtoCaches.evictProject(uuid);
+
+        log.info("Project {} (UUID={}) removed successfully with {} tasks.", project.getName(), project.getId(),
+                deleted);
     }
 
-    public List<TaskResponseDTO> getProjectTasks(UUID uuid) {
+    // Una sola sentencia para todo el lote; los uuids repetidos cuentan una vez
+    @RetryOnConflict
+    @Transactional
+    public ProjectMembersResponseDTO assignEmployees(UUID uuid, Collection<UUID> employeeUuids) {
         Project project = findProjectOrThrow(uuid);
+        Set<UUID> requested = new LinkedHashSet<>(employeeUuids);
+        List<Employee> employees = employeeRepository.findByUuidIn(requested);
+
+        int added = employeeRepository.addProjectMembers(project, employees);
+        employees.forEach(employee -> dtoCaches.evictEmployee(employee.getUuid(), employee.getEmail()));
 
-        return project.getTasks().stream().map(taskMapper::toDTO).toList();
+        log.info("Assigned {} of {} employees to project {}", added, requested.size(), uuid);
+
+        return membersResponse(requested, employees, added);
     }
 
-    public List<EmployeeResponseDTO> getProjectEmployees(UUID uuid) {
+    @RetryOnConflict
+    @Transactional
+    public ProjectMembersResponseDTO unassignEmployees(UUID uuid, Collection<UUID> employeeUuids) {
         Project project = findProjectOrThrow(uuid);
+        Set<UUID> requested = new LinkedHashSet<>(employeeUuids);
+        List<Employee> employees = employeeRepository.findByUuidIn(requested);
+
+        int removed = employeeRepository.removeProjectMembers(project, employees);
+        employees.forEach(employee -> dtoCaches.evictEmployee(employee.getUuid(), employee.getEmail()));
+
+        log.info("Unassigned {} of {} employees from project {}", removed, requested.size(), uuid);
+
+        return membersResponse(requested, employees, removed);
+    }
+
+    private static ProjectMembersResponseDTO membersResponse(Set<UUID> requested, List<Employee> found, int changed) {
+        Set<UUID> notFound = new LinkedHashSet<>(requested);
+        found.forEach(employee -> notFound.remove(employee.getUuid()));
+
+        return new ProjectMembersResponseDTO(changed, found.size() - changed, List.copyOf(notFound));
+    }
+
+    @Transactional(readOnly = true)
+    public void checkProjectExists(UUID uuid) {
+        if (!projectRepository.existsByUuid(uuid)) {
+            throw new ProjectNotFoundException(uuid);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public CollectionVersion getProjectTasksVersion(UUID uuid) {
+        return taskRepository.findVersionByProjectUuid(uuid);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> getProjectTasks(UUID uuid, Pageable pageable) {
+        checkProjectExists(uuid);
+
+        return taskRepository.findDTOByProjectUuid(uuid, Pages.orderedById(pageable));
+    }
+
+    // El controlador comprueba antes que el proyecto existe: aquí la respuesta ya se está escribiendo
+    @Transactional(readOnly = true)
+    public void streamProjectTasks(UUID uuid, Consumer<? super TaskResponseDTO> consumer) {
+        try (Stream<TaskResponseDTO> tasks = taskRepository.streamDTOByProjectUuid(uuid)) {
+            tasks.forEach(consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<EmployeeResponseDTO> getProjectEmployees(UUID uuid, Pageable pageable) {
+        checkProjectExists(uuid);
+
+        List<UUID> uuids = employeeRepository.findUuidsByProjectUuid(uuid, Pages.orderedById(pageable));
 
-        return project.getEmployees().stream().map(employeeMapper::toDTO).toList();
+        return uuids.isEmpty() ? List.of() : employeeMapper.toDTOs(employeeRepository.findRowsByUuidIn(uuids), uuids);
     }
 
 }
@@ -0,0 +1,27 @@
+package com.example.demoPersonal.service;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Solo para operaciones idempotentes que vuelven a leer todo lo que escriben: repetirlas tras un conflicto
+// de @Version aplica el cambio sobre el estado nuevo. Agotados los intentos, el conflicto llega al cliente (409).
+// Espera exponencial con jitter para que los hilos que chocaron no vuelvan a chocar a la vez.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Retryable(
+        retryFor = OptimisticLockingFailureException.class,
+        maxAttemptsExpression = "${retry.conflict.max-attempts:5}",
+        backoff = @Backoff(
+                delayExpression = "${retry.conflict.delay-ms:10}",
+                maxDelayExpression = "${retry.conflict.max-delay-ms:200}",
+                multiplier = 2,
+                random = true),
+        listeners = "conflictRetryListener")
+public @interface RetryOnConflict {
+}
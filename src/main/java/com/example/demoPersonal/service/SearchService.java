@@ -0,0 +1,26 @@
+package com.example.demoPersonal.service;
+
+import com.example.demoPersonal.dto.search.SearchHitDTO;
+import com.example.demoPersonal.search.SearchEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class SearchService {
+    private final SearchEngine searchEngine;
+
+    private static final Logger log = LoggerFactory.getLogger(SearchService.class);
+
+    public SearchService(SearchEngine searchEngine) {
+        this.searchEngine = searchEngine;
+    }
+
+    public List<SearchHitDTO> search(String query, int limit) {
+        log.debug("Searching '{}' (limit = {})", query, limit);
+
+        return searchEngine.search(query, KeysetCursor.clampSize(limit));
+    }
+}
@@ -1,5 +1,12 @@
 package com.example.demoPersonal.service;
 
+import com.example.demoPersonal.dto.page.CursorPageResponseDTO;
+import com.example.demoPersonal.dto.task.BulkTaskResponseDTO;
+import com.example.demoPersonal.dto.task.BulkTaskResultDTO;
+import com.example.demoPersonal.dto.task.BulkTaskUpdateResponseDTO;
+import com.example.demoPersonal.dto.task.TaskAssignmentDTO;
+import com.example.demoPersonal.dto.task.TaskChangesDTO;
+import com.example.demoPersonal.dto.task.TaskFilterDTO;
 import com.example.demoPersonal.dto.task.TaskRequestDTO;
 import com.example.demoPersonal.dto.task.TaskResponseDTO;
 import com.example.demoPersonal.entity.Employee;
@@ -13,13 +20,28 @@ import com.example.demoPersonal.mapper.task.TaskMapper;
 import com.example.demoPersonal.repository.EmployeeRepository;
 import com.example.demoPersonal.repository.ProjectRepository;
 import com.example.demoPersonal.repository.TaskRepository;
+import com.example.demoPersonal.repository.TaskRepositoryCustom;
+import com.example.demoPersonal.repository.projection.CollectionVersion;
+import com.example.demoPersonal.repository.projection.TaskKeysetRow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class TaskService {
@@ -44,6 +66,14 @@ public class TaskService {
         return taskRepository.findByUuid(uuid).orElseThrow(() -> new TaskNotFoundException(uuid));
     }
 
+    private Project findProjectOrThrow(UUID uuid) {
+        return projectRepository.findByUuid(uuid).orElseThrow(() -> new ProjectNotFoundException(uuid));
+    }
+
+    private Employee findEmployeeOrThrow(UUID uuid) {
+        return employeeRepository.findByUuid(uuid).orElseThrow(() -> new EmployeeNotFoundException(uuid));
+    }
+
     public TaskResponseDTO createTask(TaskRequestDTO dto) {
         Project project = projectRepository.findByUuid(dto.projectUuid()).orElseThrow(() ->
                 new ProjectNotFoundException(dto.projectUuid()));
@@ -57,27 +87,214 @@ public class TaskService {
         return taskMapper.toDTO(saved);
     }
 
+    // Una consulta IN para todos los proyectos y los INSERT en lotes JDBC (hibernate.jdbc.batch_size)
+    @Transactional
+    public BulkTaskResponseDTO createTasks(List<TaskRequestDTO> dtos) {
+        log.info("Creating {} tasks in bulk", dtos.size());
+
+        Set<UUID> projectUuids = dtos.stream().map(TaskRequestDTO::projectUuid).collect(Collectors.toSet());
+        Map<UUID, Project> projects = projectRepository.findByUuidIn(projectUuids).stream()
+                .collect(Collectors.toMap(Project::getUuid, Function.identity()));
+
+        List<Task> toSave = new ArrayList<>();
+        Map<Integer, Task> created = new HashMap<>();
+        List<BulkTaskResultDTO> results = new ArrayList<>();
+
+        for (int i = 0; i < dtos.size(); i++) {
+            TaskRequestDTO dto = dtos.get(i);
+            Project project = projects.get(dto.projectUuid());
+
+            if (project == null) {
+                results.add(BulkTaskResultDTO.failed(i, new ProjectNotFoundException(dto.projectUuid()).getMessage()));
+                continue;
+            }
+
+            Task task = new Task();
+            task.setDescription(dto.description());
+            task.setProject(project);
+
+            toSave.add(task);
+            created.put(i, task);
+        }
+
+        taskRepository.saveAllAndFlush(toSave);
+
+        created.forEach((index, task) -> results.add(BulkTaskResultDTO.ok(index, taskMapper.toDTO(task))));
+        results.sort(Comparator.comparingInt(BulkTaskResultDTO::index));
+
+        log.info("Bulk task creation finished: {} created, {} failed", toSave.size(), dtos.size() - toSave.size());
+
+        return BulkTaskResponseDTO.of(results);
+    }
+
+    @RetryOnConflict
+    @Transactional
+    public BulkTaskResponseDTO assignTasks(List<TaskAssignmentDTO> assignments) {
+        log.info("Assigning {} tasks in bulk", assignments.size());
+
+        Map<UUID, Task> tasks = taskRepository.findByUuidIn(
+                        assignments.stream().map(TaskAssignmentDTO::taskUuid).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Task::getUuid, Function.identity()));
+        Map<UUID, Employee> employees = employeeRepository.findByUuidIn(
+                        assignments.stream().map(TaskAssignmentDTO::employeeUuid).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Employee::getUuid, Function.identity()));
+
+        Map<Integer, Task> assigned = new HashMap<>();
+        List<BulkTaskResultDTO> results = new ArrayList<>();
+
+        for (int i = 0; i < assignments.size(); i++) {
+            TaskAssignmentDTO assignment = assignments.get(i);
+            Task task = tasks.get(assignment.taskUuid());
+            Employee employee = employees.get(assignment.employeeUuid());
+
+            if (task == null) {
+                results.add(BulkTaskResultDTO.failed(i, new TaskNotFoundException(assignment.taskUuid()).getMessage()));
+            } else if (employee == null) {
+                results.add(BulkTaskResultDTO.failed(i,
+                        new EmployeeNotFoundException(assignment.employeeUuid()).getMessage()));
+            } else {
+                task.setEmployee(employee);
+                assigned.put(i, task);
+            }
+        }
+
+        // El flush lanza los UPDATE en lotes y actualiza updatedAt antes de mapear
+        taskRepository.flush();
+
+        assigned.forEach((index, task) -> results.add(BulkTaskResultDTO.ok(index, taskMapper.toDTO(task))));
+        results.sort(Comparator.comparingInt(BulkTaskResultDTO::index));
+
+        log.info("Bulk task assignment finished: {} assigned, {} failed",
+                assigned.size(), assignments.size() - assigned.size());
+
+        return BulkTaskResponseDTO.of(results);
+    }
+
+    // Un UPDATE (o un count con dryRun) para todas las tareas que cumplen el filtro, por muchas que sean
+    @Transactional
+    public BulkTaskUpdateResponseDTO updateTasks(TaskFilterDTO filter, TaskChangesDTO changes, boolean dryRun) {
+        TaskRepositoryCustom.Filter criteria = new TaskRepositoryCustom.Filter(
+                filter.projectUuid() == null ? null : findProjectOrThrow(filter.projectUuid()),
+                filter.status(),
+                filter.employeeUuid() == null ? null : findEmployeeOrThrow(filter.employeeUuid()),
+                filter.isUnassigned(),
+                filter.createdBefore());
+
+        TaskRepositoryCustom.Changes update = new TaskRepositoryCustom.Changes(
+                changes.status(),
+                changes.projectUuid() == null ? null : findProjectOrThrow(changes.projectUuid()),
+                changes.employeeUuid() == null ? null : findEmployeeOrThrow(changes.employeeUuid()),
+                changes.isUnassign());
+
+        if (dryRun) {
+            long matching = taskRepository.countByFilter(criteria);
+            log.info("Bulk task update dry run: {} tasks match {}", matching, filter);
+
+            return new BulkTaskUpdateResponseDTO(matching, true);
+        }
+
+        int updated = taskRepository.updateByFilter(criteria, update, LocalDateTime.now());
+        log.info("Bulk task update: {} tasks matching {} updated with {}", updated, filter, changes);
+
+        return new BulkTaskUpdateResponseDTO(updated, false);
+    }
+
+    // Versiones para GET condicional: count y max(updatedAt) de lo que devolvería cada consulta
+    @Transactional(readOnly = true)
+    public CollectionVersion getTaskVersion(UUID uuid) {
+        return taskRepository.findVersionByUuid(uuid);
+    }
+
+    @Transactional(readOnly = true)
+    public CollectionVersion getAllTasksVersion() {
+        return taskRepository.findVersion();
+    }
+
+    @Transactional(readOnly = true)
+    public CollectionVersion getTasksByDescriptionVersion(String description) {
+        return taskRepository.findVersionByDescription(description);
+    }
+
+    @Transactional(readOnly = true)
+    public CollectionVersion getTasksByStatusVersion(Status status) {
+        return taskRepository.findVersionByStatus(status);
+    }
+
+    @Transactional(readOnly = true)
+    public CollectionVersion getUnassignedTasksVersion() {
+        return taskRepository.findVersionByEmployeeIsNull();
+    }
+
+    @Transactional(readOnly = true)
     public TaskResponseDTO getTaskByUuid(UUID uuid) {
-        Task task = taskRepository.findByUuid(uuid).orElseThrow(() -> new TaskNotFoundException(uuid));
+        return taskRepository.findDTOByUuid(uuid).orElseThrow(() -> new TaskNotFoundException(uuid));
+    }
 
-        return taskMapper.toDTO(task);
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> getTasksByDescription(String description, Pageable pageable) {
+        return taskRepository.findDTOByDescription(description, Pages.orderedById(pageable));
     }
 
-    public List<TaskResponseDTO> getTasksByDescription(String description) {
-        return taskRepository.findByDescription(description).stream().map(taskMapper::toDTO).toList();
+    @Transactional(readOnly = true)
+    public void streamTasksByDescription(String description, Consumer<? super TaskResponseDTO> consumer) {
+        try (Stream<TaskResponseDTO> tasks = taskRepository.streamDTOByDescription(description)) {
+            tasks.forEach(consumer);
+        }
     }
-    public List<TaskResponseDTO> getTaskByStatus(Status status) {
-        return taskRepository.findByStatus(status).stream().map(taskMapper::toDTO).toList();
+
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> getTaskByStatus(Status status, Pageable pageable) {
+        return taskRepository.findDTOByStatus(status, Pages.orderedById(pageable));
     }
 
-    public List<TaskResponseDTO> getUnassingedTasks() {
-        return taskRepository.findByEmployeeIsNull().stream().map(taskMapper::toDTO).toList();
+    @Transactional(readOnly = true)
+    public void streamTasksByStatus(Status status, Consumer<? super TaskResponseDTO> consumer) {
+        try (Stream<TaskResponseDTO> tasks = taskRepository.streamDTOByStatus(status)) {
+            tasks.forEach(consumer);
+        }
     }
 
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> getUnassingedTasks(Pageable pageable) {
+        return taskRepository.findDTOByEmployeeIsNull(Pages.orderedById(pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public void streamUnassignedTasks(Consumer<? super TaskResponseDTO> consumer) {
+        try (Stream<TaskResponseDTO> tasks = taskRepository.streamDTOByEmployeeIsNull()) {
+            tasks.forEach(consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportTasks(Consumer<? super TaskResponseDTO> consumer) {
+        try (Stream<TaskResponseDTO> tasks = taskRepository.streamAllDTO()) {
+            tasks.forEach(consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
     public List<TaskResponseDTO> getAllTasks(Pageable pageable) {
-        return taskRepository.findAll(pageable).stream().map(taskMapper::toDTO).toList();
+        return taskRepository.findAllDTO(Pages.orderedById(pageable)).getContent();
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<TaskResponseDTO> scrollTasks(String cursor, int size) {
+        int limit = KeysetCursor.clampSize(size);
+        PageRequest firstPage = PageRequest.ofSize(limit + 1);
+
+        List<TaskKeysetRow> rows = cursor == null || cursor.isBlank()
+                ? taskRepository.findFirstRows(firstPage)
+                : taskRepository.findRowsAfter(KeysetCursor.decode(cursor), firstPage);
+
+        return KeysetCursor.page(rows, limit, TaskKeysetRow::id,
+                page -> page.stream().map(TaskKeysetRow::toDTO).toList());
     }
 
+    @RetryOnConflict
+    @Transactional
     public TaskResponseDTO updateTask(UUID uuid, TaskRequestDTO dto) {
         Task task = taskRepository.findByUuid(uuid).orElseThrow(() -> new TaskNotFoundException(uuid));
         Project project = projectRepository.findByUuid(dto.projectUuid()).orElseThrow(() ->
@@ -102,6 +319,8 @@ public class TaskService {
         log.info("Task {} (uuid = {}) removed successfully", task.getDescription(), task.getUuid());
     }
 
+    @RetryOnConflict
+    @Transactional
     public TaskResponseDTO assignTask(UUID taskUuid, UUID employeeUuid) {
         log.info("Assigning task {} to employee {}", taskUuid, employeeUuid);
 
@@ -120,6 +339,8 @@ public class TaskService {
         return taskMapper.toDTO(assigned);
     }
 
+    @RetryOnConflict
+    @Transactional
     public TaskResponseDTO unassingTask(UUID uuid) {
         log.info("Unassigning task {}", uuid);
         Task task = findTaskOrThrow(uuid);
@@ -0,0 +1,4 @@
+-- TASKS --
+-- Hibernate reserva los ids de 50 en 50 (allocationSize = 50) para poder agrupar los INSERT en lotes JDBC.
+-- El DEFAULT de la columna sigue usando la misma secuencia, así que los INSERT nativos no colisionan.
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
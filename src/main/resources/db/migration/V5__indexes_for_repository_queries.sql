@@ -0,0 +1,30 @@
+-- Índices para los predicados de los repositorios. CONCURRENTLY para no bloquear escrituras en tablas grandes
+-- (Flyway ejecuta esta migración fuera de transacción). Si falla a medias, borrar el índice INVALID y repetir.
+
+-- TASKS --
+-- search-by-status paginado por id
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_status_id ON tasks(status, id);
+
+-- search-unassigned: solo las tareas sin empleado
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_unassigned_id ON tasks(id) WHERE employee_id IS NULL;
+
+-- search-by-description
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_description ON tasks(description);
+
+-- FKs: tareas de un proyecto / de un empleado en orden de creación, y borrados en cascada
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_project_id_id ON tasks(project_id, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_employee_id_id ON tasks(employee_id, id);
+
+-- EMPLOYEES --
+-- search-by-name compara lower(name)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_lower_name ON employees(lower(name));
+
+-- search-by-position paginado por id
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_position_id ON employees(position, id);
+
+-- EMPLOYEE_PROJECTS --
+-- La PK (employee_id, project_id) no sirve para buscar los empleados de un proyecto
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_projects_project_id ON employee_projects(project_id, employee_id);
+
+-- PROJECTS --
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_name ON projects(name);
@@ -0,0 +1,22 @@
+-- Búsqueda por texto completo y prefijo (search.engine=postgres).
+-- Columnas generadas: PostgreSQL recalcula el tsvector en cada INSERT/UPDATE de la fila, sin triggers
+-- ni reindexados completos. 'simple' no aplica stemming, así que el prefijo funciona igual en cualquier idioma.
+-- Añadir una columna STORED reescribe la tabla: en tablas grandes, lanzar en una ventana de mantenimiento.
+
+-- TASKS --
+ALTER TABLE tasks
+ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (to_tsvector('simple', description)) STORED;
+
+CREATE INDEX idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+-- EMPLOYEES --
+ALTER TABLE employees
+ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (to_tsvector('simple', name)) STORED;
+
+CREATE INDEX idx_employees_search_vector ON employees USING GIN (search_vector);
+
+-- PROJECTS --
+ALTER TABLE projects
+ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (to_tsvector('simple', name)) STORED;
+
+CREATE INDEX idx_projects_search_vector ON projects USING GIN (search_vector);
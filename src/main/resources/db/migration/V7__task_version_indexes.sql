@@ -0,0 +1,9 @@
+-- Índices para las versiones de colección del GET condicional: count(*) y max(updated_at) se resuelven con
+-- un Index Only Scan sin tocar el heap, así un 304 cuesta una consulta barata. CONCURRENTLY como en V5.
+
+-- Tareas de un proyecto / de un empleado (dashboards que sondean la lista)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_project_id_updated_at ON tasks(project_id, updated_at);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_employee_id_updated_at ON tasks(employee_id, updated_at);
+
+-- search-by-status
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_status_updated_at ON tasks(status, updated_at);
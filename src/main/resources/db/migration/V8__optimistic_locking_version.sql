@@ -0,0 +1,4 @@
+-- Columnas de versión para el bloqueo optimista (@Version). Con un DEFAULT constante PostgreSQL no reescribe la tabla.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- Versión de los JWT de cada empleado: sube al revocar sus tokens y sobrevive a reinicios y réplicas
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS token_version BIGINT NOT NULL DEFAULT 0;
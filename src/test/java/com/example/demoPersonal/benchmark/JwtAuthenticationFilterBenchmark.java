@@ -0,0 +1,100 @@
+package com.example.demoPersonal.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.example.demoPersonal.repository.EmployeeRepository;
+import com.example.demoPersonal.repository.projection.TokenVersion;
+import com.example.demoPersonal.security.CustomUserDetailsService;
+import com.example.demoPersonal.security.JwtAuthenticationFilter;
+import com.example.demoPersonal.security.JwtService;
+import com.example.demoPersonal.security.JwtTokenCache;
+import com.example.demoPersonal.security.TokenVersionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Coste del filtro JWT por petición (doFilterInternal vía doFilter) con la cadena simulada:
+// CACHED: token ya verificado en JwtTokenCache. STATELESS: se verifica y las authorities salen de los claims.
+// LOOKUP: se verifica y se carga el usuario (CustomUserDetailsService simulado, sin BD).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    public enum Path { CACHED, STATELESS, LOOKUP }
+
+    @Param({"CACHED", "STATELESS", "LOOKUP"})
+    private Path path;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private final FilterChain chain = (request, response) -> {};
+
+    @Setup
+    public void setUp() {
+        // Sin configuración de Spring Boot, logback registraría cada petición en DEBUG
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.findTokenVersionByEmail(anyString()))
+                .thenReturn(Optional.of(new TokenVersion(UUID.randomUUID(), 0)));
+
+        JwtService jwtService = new JwtService(
+                new TokenVersionRegistry(employeeRepository, 100, Duration.ofMinutes(5)));
+        UserDetails userDetails = User.withUsername("admin@local.com")
+                .password("encoded-password")
+                .authorities("ROLE_ADMIN")
+                .build();
+
+        CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+        // TTL cero: cada entrada caduca al crearse y get() nunca acierta
+        JwtTokenCache tokenCache = new JwtTokenCache(100, path == Path.CACHED ? Duration.ofMinutes(5) : Duration.ZERO,
+                new SimpleMeterRegistry());
+
+        filter = new JwtAuthenticationFilter(jwtService, userDetailsService, tokenCache, path == Path.STATELESS);
+
+        request = new MockHttpServletRequest("GET", "/api/v1/tasks");
+        request.addHeader("Authorization", "Bearer " + jwtService.generateToken(userDetails));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication doFilter() throws Exception {
+        SecurityContextHolder.clearContext();
+
+        filter.doFilter(request, response, chain);
+
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
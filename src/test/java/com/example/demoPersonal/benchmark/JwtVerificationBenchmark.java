@@ -0,0 +1,105 @@
+package com.example.demoPersonal.benchmark;
+
+import com.example.demoPersonal.repository.EmployeeRepository;
+import com.example.demoPersonal.repository.projection.TokenVersion;
+import com.example.demoPersonal.security.JwtService;
+import com.example.demoPersonal.security.TokenVersionRegistry;
+import com.example.demoPersonal.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Coste por petición de la verificación del JWT: camino antiguo (3 parseos, clave y parser nuevos
+// en cada uno) frente a la verificación en una sola pasada de JwtService.verify.
+// También las operaciones públicas de JwtService: emitir, extraer el usuario y validar.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    // Misma clave que JwtService
+    private static final String SECRET_KEY = "YzJkMzFhODQxZGIwNTM2OTUyYzU1ZDQ0ZjQ2NzkwYzdhMzQ1OTFmZjMyODU0ZjQ2";
+
+    private JwtService jwtService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.findTokenVersionByEmail(anyString()))
+                .thenReturn(Optional.of(new TokenVersion(UUID.randomUUID(), 0)));
+
+        jwtService = new JwtService(new TokenVersionRegistry(employeeRepository, 100, Duration.ofMinutes(5)));
+        userDetails = User.withUsername("test@gmail.com")
+                .password("encoded-password")
+                .authorities("ROLE_USER")
+                .build();
+        token = jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean legacyPerRequest() {
+        String username = legacyExtractAllClaims(token).getSubject();
+
+        return legacyExtractAllClaims(token).getSubject().equals(userDetails.getUsername())
+                && username != null
+                && !legacyExtractAllClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean singlePassPerRequest() {
+        VerifiedToken verifiedToken = jwtService.verify(token);
+
+        return jwtService.isTokenValid(verifiedToken, userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, userDetails);
+    }
+
+    private static Claims legacyExtractAllClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
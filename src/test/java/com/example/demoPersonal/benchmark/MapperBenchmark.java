@@ -0,0 +1,114 @@
+package com.example.demoPersonal.benchmark;
+
+import com.example.demoPersonal.dto.employee.EmployeeResponseDTO;
+import com.example.demoPersonal.dto.task.TaskResponseDTO;
+import com.example.demoPersonal.entity.Employee;
+import com.example.demoPersonal.entity.Project;
+import com.example.demoPersonal.entity.Task;
+import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.mapper.employee.EmployeeMapperImpl;
+import com.example.demoPersonal.mapper.project.ProjectMapperImpl;
+import com.example.demoPersonal.mapper.task.TaskMapperImpl;
+import com.example.demoPersonal.repository.projection.EmployeeProjectRow;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Coste de mapear listas grandes a DTOs: entidades con TaskMapperImpl / EmployeeMapperImpl y la agrupación
+// de filas empleado-proyecto que usan las consultas de lectura (EmployeeMapperImpl.toDTOs).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final int PROJECTS_PER_EMPLOYEE = 3;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private final TaskMapperImpl taskMapper = new TaskMapperImpl();
+    private final EmployeeMapperImpl employeeMapper = new EmployeeMapperImpl(new ProjectMapperImpl());
+
+    private List<Task> tasks;
+    private List<Employee> employees;
+    private List<EmployeeProjectRow> employeeRows;
+
+    @Setup
+    public void setUp() {
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Project project = new Project();
+            project.setName("Project " + i);
+            project.generateUUID();
+            projects.add(project);
+        }
+
+        tasks = new ArrayList<>(size);
+        employees = new ArrayList<>(size);
+        employeeRows = new ArrayList<>(size * PROJECTS_PER_EMPLOYEE);
+
+        for (int i = 0; i < size; i++) {
+            Employee employee = new Employee();
+            employee.setName("Employee " + i);
+            employee.setEmail("employee" + i + "@benchmark.com");
+            employee.setPosition(Position.BACKEND_DEVELOPER);
+            employee.generateUUID();
+
+            for (int p = 0; p < PROJECTS_PER_EMPLOYEE; p++) {
+                Project project = projects.get((i + p) % projects.size());
+                employee.getProjects().add(project);
+                employeeRows.add(new EmployeeProjectRow(employee.getUuid(), employee.getEmail(), employee.getName(),
+                        employee.getPosition(), project.getUuid(), project.getName()));
+            }
+            employees.add(employee);
+
+            Task task = new Task();
+            task.setDescription("Task " + i);
+            task.setProject(projects.get(i % projects.size()));
+            task.setEmployee(i % 10 == 0 ? null : employee);
+            task.generateUUID();
+            tasks.add(task);
+        }
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> taskToDTO() {
+        List<TaskResponseDTO> dtos = new ArrayList<>(tasks.size());
+
+        for (Task task : tasks) {
+            dtos.add(taskMapper.toDTO(task));
+        }
+
+        return dtos;
+    }
+
+    @Benchmark
+    public List<EmployeeResponseDTO> employeeToDTO() {
+        List<EmployeeResponseDTO> dtos = new ArrayList<>(employees.size());
+
+        for (Employee employee : employees) {
+            dtos.add(employeeMapper.toDTO(employee));
+        }
+
+        return dtos;
+    }
+
+    @Benchmark
+    public List<EmployeeResponseDTO> employeeRowsToDTOs() {
+        return employeeMapper.toDTOs(employeeRows);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.demoPersonal.benchmark;
+
+import com.example.demoPersonal.DemoPersonalApplication;
+import com.example.demoPersonal.dto.task.TaskResponseDTO;
+import com.example.demoPersonal.entity.Employee;
+import com.example.demoPersonal.entity.Project;
+import com.example.demoPersonal.entity.Task;
+import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.entity.enums.Status;
+import com.example.demoPersonal.mapper.task.TaskMapper;
+import com.example.demoPersonal.repository.TaskRepository;
+import com.example.demoPersonal.service.TaskService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Filas por segundo de un listado de tareas: entidades gestionadas + TaskMapper (camino antiguo)
+// frente a la proyección directa a TaskResponseDTO, y la exportación NDJSON completa.
+// Usa el perfil test (H2 en memoria).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(TaskReadBenchmark.ROWS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskReadBenchmark {
+
+    static final int ROWS = 5_000;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TaskRepository taskRepository;
+    private TaskMapper taskMapper;
+    private TaskService taskService;
+    private ObjectWriter ndjsonWriter;
+    private TransactionTemplate readOnlyTx;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(DemoPersonalApplication.class)
+                .profiles("test")
+                .properties("spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        entityManager = context.getBean(EntityManager.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        taskMapper = context.getBean(TaskMapper.class);
+        taskService = context.getBean(TaskService.class);
+        ndjsonWriter = context.getBean(ObjectMapper.class).writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> seed());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> managedEntitiesAndMapper() {
+        return readOnlyTx.execute(status -> entityManager
+                .createQuery("select t from Task t left join fetch t.employee join fetch t.project "
+                        + "where t.status = :status order by t.id", Task.class)
+                .setParameter("status", Status.TODO)
+                .getResultList()
+                .stream()
+                .map(taskMapper::toDTO)
+                .toList());
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> dtoProjection() {
+        return readOnlyTx.execute(status -> taskRepository.findDTOByStatus(Status.TODO, Pageable.unpaged()));
+    }
+
+    // Camino de GET /api/v1/tasks/export sin la capa HTTP: stream de DTOs escrito como NDJSON
+    @Benchmark
+    public long ndjsonExport() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+
+        taskService.exportTasks(task -> {
+            try {
+                ndjsonWriter.writeValue(out, task);
+                out.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+
+        return out.count;
+    }
+
+    private void seed() {
+        Project project = new Project();
+        project.setName("Benchmark");
+        entityManager.persist(project);
+
+        Employee employee = null;
+        for (int i = 0; i < ROWS; i++) {
+            if (i % 10 == 0) {
+                employee = new Employee();
+                employee.setName("Employee " + i);
+                employee.setEmail("employee" + i + "@benchmark.com");
+                employee.setPassword("password");
+                employee.setPosition(Position.BACKEND_DEVELOPER);
+                entityManager.persist(employee);
+            }
+
+            Task task = new Task();
+            task.setDescription("Task " + i);
+            task.setProject(project);
+            task.setEmployee(employee);
+            entityManager.persist(task);
+
+            if (i % 500 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                project = entityManager.merge(project);
+                employee = entityManager.merge(employee);
+            }
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskReadBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demoPersonal.benchmark;
+
+import com.example.demoPersonal.dto.task.TaskResponseDTO;
+import com.example.demoPersonal.entity.enums.Status;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Serialización JSON de List<TaskResponseDTO>, el cuerpo de los listados de tareas.
+// ObjectMapper con la configuración de Spring Boot (JavaTimeModule, fechas ISO-8601).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskSerializationBenchmark {
+
+    // 100: página máxima de la API. 10000: orden de magnitud de una exportación pequeña
+    @Param({"100", "10000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<TaskResponseDTO> tasks;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(new TypeReference<List<TaskResponseDTO>>() {});
+
+        UUID projectUuid = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(new TaskResponseDTO(UUID.randomUUID(), "Task " + i, Status.values()[i % Status.values().length],
+                    now, now, i % 10 == 0 ? null : UUID.randomUUID(), projectUuid));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws Exception {
+        return writer.writeValueAsBytes(tasks);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskSerializationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demoPersonal.config;
+
+import com.example.demoPersonal.service.DtoCaches;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Con la cadena de filtros completa: las entradas de /actuator/dtocaches contienen datos de empleados y el
+// resto de /actuator es público, así que la regla de SecurityConfig tiene que cubrir lectura y vaciado
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DtoCacheEndpointSecurityTest {
+    private static final String ENDPOINT = "/actuator/dtocaches";
+    private static final String CACHE_ENDPOINT = ENDPOINT + "/" + DtoCaches.EMPLOYEES;
+    private static final String KEY = "dtocaches-security-test";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache(DtoCaches.EMPLOYEES);
+        cache.put(KEY, "cached employee");
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.evict(KEY);
+    }
+
+    @Test
+    @WithAnonymousUser
+    void dtoCaches_shouldRejectAnonymousRequests() throws Exception {
+        // WHEN - THEN
+        expectOnAllOperations(status().isForbidden());
+
+        assertNotNull(cache.get(KEY));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void dtoCaches_shouldRejectUsers() throws Exception {
+        // WHEN - THEN
+        expectOnAllOperations(status().isForbidden());
+
+        assertNotNull(cache.get(KEY));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void dtoCaches_shouldAllowAdmins() throws Exception {
+        // WHEN - THEN
+        mockMvc.perform(get(ENDPOINT)).andExpect(status().isOk());
+        mockMvc.perform(get(CACHE_ENDPOINT)).andExpect(status().isOk());
+        mockMvc.perform(delete(CACHE_ENDPOINT)).andExpect(status().isNoContent());
+
+        assertNull(cache.get(KEY));
+    }
+
+    private void expectOnAllOperations(ResultMatcher expected) throws Exception {
+        mockMvc.perform(get(ENDPOINT)).andExpect(expected);
+        mockMvc.perform(get(CACHE_ENDPOINT)).andExpect(expected);
+        mockMvc.perform(delete(ENDPOINT)).andExpect(expected);
+        mockMvc.perform(delete(CACHE_ENDPOINT)).andExpect(expected);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.demoPersonal.config;
+
+import com.example.demoPersonal.dto.project.ProjectRequestDTO;
+import com.example.demoPersonal.entity.Project;
+import com.example.demoPersonal.entity.Task;
+import com.example.demoPersonal.repository.ProjectRepository;
+import com.example.demoPersonal.repository.TaskRepository;
+import com.example.demoPersonal.service.ProjectService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Con filtros: SqlMetricsFilter es el que mide. El umbral bajo fuerza el aviso de N+1
+@SpringBootTest(properties = "sql.metrics.n-plus-one-threshold=1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@ExtendWith(OutputCaptureExtension.class)
+@WithMockUser(roles = "ADMIN")
+class SqlMetricsTest {
+    private static final String HANDLER = "ProjectController.getProjectTasks";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private UUID projectUuid;
+
+    @BeforeEach
+    void setUp() {
+        projectUuid = projectService.createProject(new ProjectRequestDTO("Metered project")).uuid();
+        Project project = projectRepository.findByUuid(projectUuid).orElseThrow();
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Task task = new Task();
+            task.setDescription("Metered task " + i);
+            task.setProject(project);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectService.removeProject(projectUuid);
+    }
+
+    @Test
+    void getProjectTasks_shouldRecordStatementsRowsAndTimeForTheHandler(CapturedOutput output) throws Exception {
+        // GIVEN
+        long before = count("sql.request.statements");
+
+        // WHEN
+        mockMvc.perform(get("/api/v1/projects/{uuid}/tasks", projectUuid))
+                .andExpect(status().isOk());
+
+        // THEN: versión de la colección + página de tareas
+        DistributionSummary statements = meterRegistry.get("sql.request.statements").tag("handler", HANDLER).summary();
+        DistributionSummary rows = meterRegistry.get("sql.request.rows").tag("handler", HANDLER).summary();
+
+        assertEquals(before + 1, statements.count());
+        assertTrue(statements.max() >= 2);
+        assertTrue(rows.max() >= 3);
+        assertNotNull(meterRegistry.get("sql.request.time").tag("handler", HANDLER).timer());
+        assertTrue(output.getOut().contains("(" + HANDLER + ") ran"));
+    }
+
+    @Test
+    void dataSourceProxy_shouldKeepPoolMetrics() {
+        // WHEN / THEN: Spring Boot desenvuelve el proxy para llegar al pool de Hikari
+        assertNotNull(meterRegistry.find("hikaricp.connections").gauge());
+    }
+
+    private long count(String name) {
+        DistributionSummary summary = meterRegistry.find(name).tag("handler", HANDLER).summary();
+
+        return summary == null ? 0 : summary.count();
+    }
+}
@@ -3,8 +3,10 @@ package com.example.demoPersonal.controller;
 import com.example.demoPersonal.dto.login.AuthResponseDTO;
 import com.example.demoPersonal.dto.login.LoginRequestDTO;
 import com.example.demoPersonal.dto.login.RegisterRequestDTO;
+import com.example.demoPersonal.exception.ServiceBusyException;
 import com.example.demoPersonal.security.CustomUserDetailsService;
 import com.example.demoPersonal.security.JwtService;
+import com.example.demoPersonal.security.JwtTokenCache;
 import com.example.demoPersonal.service.AuthService;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
@@ -17,6 +19,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -27,6 +30,7 @@ class AuthControllerTest {
 
     @MockitoBean JwtService jwtService;
     @MockitoBean CustomUserDetailsService customUserDetailsService;
+    @MockitoBean JwtTokenCache jwtTokenCache;
 
     // MockBean está deprecated
     @MockitoBean AuthService authService;
@@ -44,6 +48,19 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.token").value("jwt"));
     }
 
+    @Test
+    void login_shouldReturn429_whenHashingPoolIsSaturated() throws Exception {
+        when(authService.login(any(LoginRequestDTO.class))).thenThrow(new ServiceBusyException("Password hashing"));
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"email":"test@gmail.com", "password":"abc123."}
+                        """))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
     @Test
     void register_shouldReturnToken() throws Exception {
         when(authService.register(any(RegisterRequestDTO.class))).thenReturn(new AuthResponseDTO("jwt"));
@@ -3,22 +3,28 @@ package com.example.demoPersonal.controller;
 import com.example.demoPersonal.dto.employee.EmployeeRequestDTO;
 import com.example.demoPersonal.dto.employee.EmployeeResponseDTO;
 import com.example.demoPersonal.dto.project.ProjectResponseDTO;
+import com.example.demoPersonal.entity.Employee;
 import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.exception.EmployeeNotFoundException;
 import com.example.demoPersonal.security.CustomUserDetailsService;
 import com.example.demoPersonal.security.JwtService;
+import com.example.demoPersonal.security.JwtTokenCache;
 import com.example.demoPersonal.service.EmployeeService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -32,6 +38,7 @@ class EmployeeControllerTest {
     @MockitoBean EmployeeService employeeService;
     @MockitoBean JwtService jwtService;
     @MockitoBean CustomUserDetailsService userDetailsService;
+    @MockitoBean JwtTokenCache jwtTokenCache;
 
     @Test
     void createEmployee_shouldReturn201() throws Exception {
@@ -62,11 +69,22 @@ class EmployeeControllerTest {
    void removeEmployee_shouldReturn204() throws Exception {
        UUID uuid = UUID.randomUUID();
 
-       doNothing().when(employeeService).removeEmployee(uuid);
+       doNothing().when(employeeService).removeEmployee(uuid, null);
 
        mockMvc.perform(delete("/api/v1/employees/{uuid}", uuid)).andExpect(status().isNoContent());
 
-       verify(employeeService).removeEmployee(uuid);
+       verify(employeeService).removeEmployee(uuid, null);
+    }
+
+    @Test
+    void removeEmployee_shouldPassReassignmentTarget() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+
+        mockMvc.perform(delete("/api/v1/employees/{uuid}", uuid).param("reassignTo", target.toString()))
+                .andExpect(status().isNoContent());
+
+        verify(employeeService).removeEmployee(uuid, target);
     }
 
     @Test
@@ -91,4 +109,41 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.uuid").value(employeeUuid.toString()))
                 .andExpect(jsonPath("$.projects[0].uuid").value(projectUuid.toString()));
     }
+
+    @Test
+    void assignProject_shouldReturn409_whenConflictPersists() throws Exception {
+        UUID employeeUuid = UUID.randomUUID();
+        UUID projectUuid = UUID.randomUUID();
+
+        when(employeeService.assignProject(employeeUuid, projectUuid))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Employee.class, employeeUuid));
+
+        mockMvc.perform(put("/api/v1/employees/{employeeUuid}/projects/{projectUuid}", employeeUuid, projectUuid))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+    }
+
+    @Test
+    void getEmployee_shouldReturn304_whenVersionIsUnchanged() throws Exception {
+        UUID uuid = UUID.randomUUID();
+
+        when(employeeService.getEmployeeVersion(uuid)).thenReturn(Optional.of("3.1.2"));
+
+        mockMvc.perform(get("/api/v1/employees/{uuid}", uuid).header("If-None-Match", "\"3.1.2\""))
+                .andExpect(status().isNotModified());
+
+        verify(employeeService, never()).getEmployeeByUuid(uuid);
+    }
+
+    @Test
+    void streamEmployeeTasks_shouldReturn404_whenEmployeeNotExists() throws Exception {
+        UUID uuid = UUID.randomUUID();
+
+        doThrow(new EmployeeNotFoundException(uuid)).when(employeeService).checkEmployeeExists(uuid);
+
+        mockMvc.perform(get("/api/v1/employees/{uuid}/tasks", uuid).param("stream", "true"))
+                .andExpect(status().isNotFound());
+
+        verify(employeeService, never()).streamEmployeeTasks(eq(uuid), any());
+    }
 }
@@ -0,0 +1,46 @@
+package com.example.demoPersonal.controller;
+
+import com.example.demoPersonal.exception.ProjectNotFoundException;
+import com.example.demoPersonal.security.CustomUserDetailsService;
+import com.example.demoPersonal.security.JwtService;
+import com.example.demoPersonal.security.JwtTokenCache;
+import com.example.demoPersonal.service.ProjectDeletionJobs;
+import com.example.demoPersonal.service.ProjectService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = ProjectController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class ProjectControllerTest {
+    @Autowired MockMvc mockMvc;
+
+    @MockitoBean ProjectService projectService;
+    @MockitoBean ProjectDeletionJobs projectDeletionJobs;
+    @MockitoBean JwtService jwtService;
+    @MockitoBean CustomUserDetailsService userDetailsService;
+    @MockitoBean JwtTokenCache jwtTokenCache;
+
+    @Test
+    void streamProjectTasks_shouldReturn404_whenProjectNotExists() throws Exception {
+        UUID uuid = UUID.randomUUID();
+
+        doThrow(new ProjectNotFoundException(uuid)).when(projectService).checkProjectExists(uuid);
+
+        mockMvc.perform(get("/api/v1/projects/{uuid}/tasks", uuid).param("stream", "true"))
+                .andExpect(status().isNotFound());
+
+        verify(projectService, never()).streamProjectTasks(eq(uuid), any());
+    }
+}
@@ -1,10 +1,19 @@
 package com.example.demoPersonal.controller;
 
+import com.example.demoPersonal.dto.search.SearchHitDTO;
+import com.example.demoPersonal.dto.search.SearchHitType;
+import com.example.demoPersonal.dto.task.BulkTaskUpdateResponseDTO;
+import com.example.demoPersonal.dto.task.TaskChangesDTO;
+import com.example.demoPersonal.dto.task.TaskFilterDTO;
 import com.example.demoPersonal.dto.task.TaskRequestDTO;
 import com.example.demoPersonal.dto.task.TaskResponseDTO;
 import com.example.demoPersonal.entity.enums.Status;
+import com.example.demoPersonal.exception.InvalidCursorException;
+import com.example.demoPersonal.repository.projection.CollectionVersion;
 import com.example.demoPersonal.security.CustomUserDetailsService;
 import com.example.demoPersonal.security.JwtService;
+import com.example.demoPersonal.security.JwtTokenCache;
+import com.example.demoPersonal.service.SearchService;
 import com.example.demoPersonal.service.TaskService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,14 +22,30 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -30,8 +55,10 @@ class TaskControllerTest {
     @Autowired MockMvc mockMvc;
 
     @MockitoBean TaskService taskService;
+    @MockitoBean SearchService searchService;
     @MockitoBean JwtService jwtService;
     @MockitoBean CustomUserDetailsService userDetailsService;
+    @MockitoBean JwtTokenCache jwtTokenCache;
 
     @Test
     void createTask_shouldReturn201() throws Exception {
@@ -70,4 +97,159 @@ class TaskControllerTest {
 
         verify(taskService).removeTask(uuid);
     }
+
+    @Test
+    void updateTasks_shouldPassFilterChangesAndDryRun() throws Exception {
+        UUID projectUuid = UUID.fromString("11111111-1111-1111-1111-111111111111");
+        TaskFilterDTO filter = new TaskFilterDTO(projectUuid, Status.IN_PROGRESS, null, null, null);
+        TaskChangesDTO changes = new TaskChangesDTO(Status.DONE, null, null, null);
+
+        when(taskService.updateTasks(filter, changes, true)).thenReturn(new BulkTaskUpdateResponseDTO(42, true));
+
+        mockMvc.perform(patch("/api/v1/tasks")
+                        .param("dryRun", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                "filter": {"projectUuid": "11111111-1111-1111-1111-111111111111", "status": "IN_PROGRESS"},
+                                "changes": {"status": "DONE"}
+                                }
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(42))
+                .andExpect(jsonPath("$.dryRun").value(true));
+    }
+
+    @Test
+    void updateTasks_shouldReturn400_whenFilterIsEmpty() throws Exception {
+        mockMvc.perform(patch("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"filter": {}, "changes": {"status": "DONE"}}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void scrollTasks_shouldReturn400_whenCursorIsInvalid() throws Exception {
+        when(taskService.scrollTasks("bad", 20)).thenThrow(new InvalidCursorException("bad"));
+
+        mockMvc.perform(get("/api/v1/tasks/scroll").param("cursor", "bad"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTasksByStatus_shouldCapPageSize() throws Exception {
+        when(taskService.getTasksByStatusVersion(Status.TODO)).thenReturn(new CollectionVersion(0, null));
+
+        mockMvc.perform(get("/api/v1/tasks/search-by-status")
+                        .param("status", "TODO")
+                        .param("size", "100000"))
+                .andExpect(status().isOk());
+
+        verify(taskService).getTaskByStatus(eq(Status.TODO), argThat(pageable -> pageable.getPageSize() == 100));
+    }
+
+    @Test
+    void getAllTasks_shouldReturnETagWithoutLastModified() throws Exception {
+        when(taskService.getAllTasksVersion()).thenReturn(new CollectionVersion(3, LocalDateTime.of(2025, 1, 1, 10, 0)));
+        when(taskService.getAllTasks(any())).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().doesNotExist("Last-Modified"));
+    }
+
+    @Test
+    void getAllTasks_shouldIgnoreIfModifiedSince_whenTasksWereDeleted() throws Exception {
+        // GIVEN: una baja no cambia max(updated_at), solo el número de filas
+        LocalDateTime modifiedAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+        when(taskService.getAllTasksVersion()).thenReturn(new CollectionVersion(2, modifiedAt));
+        when(taskService.getAllTasks(any())).thenReturn(List.of());
+
+        String ifModifiedSince = DateTimeFormatter.RFC_1123_DATE_TIME
+                .format(modifiedAt.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC));
+
+        // WHEN - THEN
+        mockMvc.perform(get("/api/v1/tasks").header("If-Modified-Since", ifModifiedSince))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAllTasks_shouldReturn304WithoutLoadingTasks_whenETagMatches() throws Exception {
+        when(taskService.getAllTasksVersion()).thenReturn(new CollectionVersion(3, LocalDateTime.of(2025, 1, 1, 10, 0)));
+        when(taskService.getAllTasks(any())).thenReturn(List.of());
+
+        String etag = mockMvc.perform(get("/api/v1/tasks"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/tasks").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(taskService, times(1)).getAllTasks(any());
+    }
+
+    @Test
+    void getTaskByUuid_shouldReturn304_whenNotModifiedSince() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        when(taskService.getTaskVersion(uuid)).thenReturn(new CollectionVersion(1, LocalDateTime.of(2025, 1, 1, 10, 0)));
+
+        String lastModified = mockMvc.perform(get("/api/v1/tasks/{uuid}", uuid))
+                .andReturn().getResponse().getHeader("Last-Modified");
+
+        mockMvc.perform(get("/api/v1/tasks/{uuid}", uuid).header("If-Modified-Since", lastModified))
+                .andExpect(status().isNotModified());
+
+        // Cambia el contenido: la ETag ya no coincide
+        when(taskService.getTaskVersion(uuid)).thenReturn(new CollectionVersion(1, LocalDateTime.of(2025, 1, 1, 10, 5)));
+
+        mockMvc.perform(get("/api/v1/tasks/{uuid}", uuid).header("If-Modified-Since", lastModified))
+                .andExpect(status().isOk());
+
+        verify(taskService, times(2)).getTaskByUuid(uuid);
+    }
+
+    @Test
+    void streamTasksByStatus_shouldWriteOneTaskPerLine() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<TaskResponseDTO> consumer = invocation.getArgument(1);
+            consumer.accept(new TaskResponseDTO(UUID.randomUUID(), "First", Status.TODO, null, null, null, UUID.randomUUID()));
+            consumer.accept(new TaskResponseDTO(UUID.randomUUID(), "Second", Status.TODO, null, null, null, UUID.randomUUID()));
+            return null;
+        }).when(taskService).streamTasksByStatus(eq(Status.TODO), any());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/tasks/search-by-status")
+                        .param("status", "TODO")
+                        .param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"description\":\"First\""));
+        assertTrue(lines[1].contains("\"description\":\"Second\""));
+    }
+
+    @Test
+    void search_shouldReturnRankedHits() throws Exception {
+        UUID taskUuid = UUID.randomUUID();
+
+        when(searchService.search("deploy", 20)).thenReturn(List.of(
+                new SearchHitDTO(SearchHitType.TASK, taskUuid, "Deploy backend", 0.5)));
+
+        mockMvc.perform(get("/api/v1/tasks/search").param("q", "deploy"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].type").value("TASK"))
+                .andExpect(jsonPath("$[0].uuid").value(taskUuid.toString()))
+                .andExpect(jsonPath("$[0].text").value("Deploy backend"));
+    }
 }
@@ -0,0 +1,37 @@
+package com.example.demoPersonal.loadtest;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Prueba de carga de extremo a extremo: la app completa sobre H2 con el volumen pedido, un reparto realista de
+// /api/v1/* con JWT de administrador y umbrales (SLO) que hacen fallar la ejecución si se superan.
+// Solo a petición: mvn test -Dtest=ApiLoadTest -Dloadtest=true [-Dloadtest.tasks=1000000 -Dloadtest.slo.p99=250ms]
+// El informe se imprime y se guarda en target/loadtest-api.json.
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class ApiLoadTest {
+
+    @Test
+    void apiMix_shouldMeetSlos() throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties(200);
+
+        LoadReport report;
+        try (LoadTestServer server = LoadTestServer.start("api", config)) {
+            report = LoadDriver.run("api", server, RequestMix.standard(server, config), config);
+        }
+
+        System.out.println(report.format());
+        JsonMapper.builder().findAndAddModules().enable(SerializationFeature.INDENT_OUTPUT).build()
+                .writeValue(Files.createDirectories(Path.of("target")).resolve("loadtest-api.json").toFile(), report);
+
+        List<String> violations = config.slo().violations(report);
+        assertTrue(violations.isEmpty(), () -> "SLO violations:\n  " + String.join("\n  ", violations));
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.demoPersonal.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Clientes en bucle cerrado: cada uno lanza su siguiente petición cuando recibe la respuesta anterior
+final class LoadDriver {
+    private static final long HIGHEST_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final LoadTestServer server;
+    private final RequestMix mix;
+    private final LoadTestConfig config;
+
+    private final Histogram overall = histogram();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, Histogram> latencies = new LinkedHashMap<>();
+    private final Map<String, LongAdder> endpointErrors = new LinkedHashMap<>();
+
+    private LoadDriver(LoadTestServer server, RequestMix mix, LoadTestConfig config) {
+        this.server = server;
+        this.mix = mix;
+        this.config = config;
+
+        for (String endpoint : mix.endpointNames()) {
+            latencies.put(endpoint, histogram());
+            endpointErrors.put(endpoint, new LongAdder());
+        }
+    }
+
+    static LoadReport run(String name, LoadTestServer server, RequestMix mix, LoadTestConfig config) {
+        return new LoadDriver(server, mix, config).run(name);
+    }
+
+    private LoadReport run(String name) {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(clientExecutor)
+                .build();
+
+        long measureFrom = System.nanoTime() + config.warmup().toNanos();
+        long deadline = measureFrom + config.duration().toNanos();
+
+        // Contadores del servidor al empezar la fase medida; los del calentamiento no cuentan
+        AtomicLong statementsAtStart = new AtomicLong();
+        AtomicLong allocatedAtStart = new AtomicLong();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.schedule(() -> {
+            statementsAtStart.set(server.statementCount());
+            allocatedAtStart.set(server.workerAllocatedBytes());
+        }, config.warmup().toNanos(), TimeUnit.NANOSECONDS);
+
+        List<CompletableFuture<Void>> clients = new ArrayList<>();
+        List<String> tokens = server.seed().tokens();
+        for (int i = 0; i < config.clients(); i++) {
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            loop(client, tokens.get(i % tokens.size()), measureFrom, deadline, done);
+            clients.add(done);
+        }
+
+        CompletableFuture.allOf(clients.toArray(CompletableFuture[]::new)).join();
+
+        long statements = server.statementCount();
+        long allocated = server.workerAllocatedBytes();
+
+        scheduler.shutdown();
+        clientExecutor.shutdown();
+
+        long requests = overall.getTotalCount();
+        double perRequest = Math.max(requests, 1);
+
+        Map<String, LoadReport.Latency> endpoints = new LinkedHashMap<>();
+        latencies.forEach((endpoint, histogram) ->
+                endpoints.put(endpoint, LoadReport.Latency.of(histogram, endpointErrors.get(endpoint).sum())));
+
+        return new LoadReport(name, config.clients(), config.duration(), requests, errors.sum(),
+                requests / (config.duration().toNanos() / 1e9),
+                LoadReport.Latency.of(overall, errors.sum()), endpoints,
+                (statements - statementsAtStart.get()) / perRequest,
+                allocated < 0 || allocatedAtStart.get() < 0
+                        ? Double.NaN
+                        : (allocated - allocatedAtStart.get()) / perRequest);
+    }
+
+    private void loop(HttpClient client, String token, long measureFrom, long deadline, CompletableFuture<Void> done) {
+        long start = System.nanoTime();
+
+        if (start >= deadline) {
+            done.complete(null);
+            return;
+        }
+
+        RequestMix.Call call = mix.next(token);
+
+        client.sendAsync(call.request(), HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            if (start >= measureFrom) {
+                long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start), HIGHEST_LATENCY_MICROS);
+                overall.recordValue(micros);
+                latencies.get(call.endpoint()).recordValue(micros);
+
+                if (error != null || response.statusCode() != 200) {
+                    errors.increment();
+                    endpointErrors.get(call.endpoint()).increment();
+                }
+            }
+
+            loop(client, token, measureFrom, deadline, done);
+        });
+    }
+
+    private static Histogram histogram() {
+        return new ConcurrentHistogram(HIGHEST_LATENCY_MICROS, 3);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demoPersonal.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+
+// Resultado de la fase medida; allocatedBytesPerRequest es NaN si no se pudo medir
+record LoadReport(String name, int clients, Duration duration, long requests, long errors, double throughput,
+                  Latency overall, Map<String, Latency> endpoints,
+                  double statementsPerRequest, double allocatedBytesPerRequest) {
+
+    record Latency(long requests, long errors, double p50Millis, double p99Millis, double p999Millis,
+                   double maxMillis) {
+
+        // El histograma registra microsegundos
+        static Latency of(Histogram histogram, long errors) {
+            return new Latency(histogram.getTotalCount(), errors,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+        }
+    }
+
+    double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    String format() {
+        StringBuilder out = new StringBuilder();
+
+        out.append(String.format("%n%s: %d clients, %ds measured, %.0f req/s, %.2f SQL statements/request, %s/request%n",
+                name, clients, duration.toSeconds(), throughput, statementsPerRequest,
+                Double.isNaN(allocatedBytesPerRequest)
+                        ? "n/a allocated"
+                        : String.format("%.0f KB allocated", allocatedBytesPerRequest / 1024)));
+        out.append(String.format("%-22s %10s %8s %9s %9s %9s %9s%n", "endpoint", "requests", "errors",
+                "p50 ms", "p99 ms", "p999 ms", "max ms"));
+
+        endpoints.forEach((endpoint, latency) -> row(out, endpoint, latency));
+        row(out, "TOTAL", overall);
+
+        return out.toString();
+    }
+
+    private static void row(StringBuilder out, String name, Latency latency) {
+        out.append(String.format("%-22s %10d %8d %9.1f %9.1f %9.1f %9.1f%n", name, latency.requests(),
+                latency.errors(), latency.p50Millis(), latency.p99Millis(), latency.p999Millis(),
+                latency.maxMillis()));
+    }
+}
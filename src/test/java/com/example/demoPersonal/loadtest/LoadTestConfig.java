@@ -0,0 +1,25 @@
+package com.example.demoPersonal.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+
+// Parámetros de una prueba de carga, leídos de propiedades del sistema -Dloadtest.*
+record LoadTestConfig(int clients, Duration warmup, Duration duration,
+                      int projects, int employees, int tasks, Slo slo) {
+
+    static LoadTestConfig fromSystemProperties(int defaultClients) {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.clients", defaultClients),
+                duration("loadtest.warmup", "10s"),
+                duration("loadtest.duration", "30s"),
+                Integer.getInteger("loadtest.projects", 500),
+                Integer.getInteger("loadtest.employees", 10_000),
+                Integer.getInteger("loadtest.tasks", 1_000_000),
+                Slo.fromSystemProperties());
+    }
+
+    static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.demoPersonal.loadtest;
+
+import com.example.demoPersonal.DemoPersonalApplication;
+import com.example.demoPersonal.search.InMemorySearchEngine;
+import com.example.demoPersonal.security.CustomUserDetailsService;
+import com.example.demoPersonal.security.JwtService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Arranca DemoPersonalApplication en un puerto libre contra H2 en memoria y la rellena con el volumen pedido
+final class LoadTestServer implements AutoCloseable {
+    // Mismo pool en todas las ejecuciones para que solo cambie lo que se compara
+    private static final int POOL_SIZE = 20;
+    private static final int ADMINS = 20;
+    private static final int SAMPLE_SIZE = 1_000;
+
+    private final ConfigurableApplicationContext context;
+    private final Statistics statistics;
+    private final String baseUrl;
+    private final SeedData seed;
+
+    record SeedData(List<String> tokens, List<UUID> projects, List<UUID> employees, List<UUID> tasks) {}
+
+    private LoadTestServer(ConfigurableApplicationContext context, LoadTestConfig config) {
+        this.context = context;
+        this.statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        this.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        this.seed = seed(config);
+    }
+
+    static LoadTestServer start(String name, LoadTestConfig config, String... extraProfiles) {
+        List<String> profiles = new ArrayList<>(List.of("test"));
+        profiles.addAll(List.of(extraProfiles));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoPersonalApplication.class)
+                .profiles(profiles.toArray(String[]::new))
+                .properties("server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest-" + name
+                                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.datasource.hikari.minimum-idle=" + POOL_SIZE,
+                        "spring.jmx.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        try {
+            return new LoadTestServer(context, config);
+        } catch (RuntimeException ex) {
+            context.close();
+            throw ex;
+        }
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    SeedData seed() {
+        return seed;
+    }
+
+    // Sentencias preparadas por Hibernate desde el arranque (el perfil test activa generate_statistics)
+    long statementCount() {
+        return statistics.getPrepareStatementCount();
+    }
+
+    // Bytes reservados por los hilos de Tomcat que siguen vivos; -1 si no hay ninguno (hilos virtuales)
+    long workerAllocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+
+        long total = 0;
+        boolean found = false;
+
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("http-nio-") && thread.getName().contains("-exec-")) {
+                total += Math.max(0, threads.getThreadAllocatedBytes(thread.getId()));
+                found = true;
+            }
+        }
+
+        return found ? total : -1;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    // Inserción por conjuntos en H2: un millón de tareas con saveAll tardaría minutos
+    private SeedData seed(LoadTestConfig config) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+
+        jdbc.update("""
+                insert into projects (uuid, name, version)
+                select random_uuid(), 'Project ' || x, 0 from system_range(1, ?)""", config.projects());
+
+        jdbc.update("""
+                insert into employees (uuid, name, email, password, position, role, version)
+                select random_uuid(), 'Employee ' || x, 'employee' || x || '@loadtest.com', 'unused',
+                       case mod(x, 4) when 0 then 'DEVELOPER' when 1 then 'BACKEND_DEVELOPER'
+                                      when 2 then 'FRONTEND_DEVELOPER' else 'QA_ENGINEER' end,
+                       'ROLE_USER', 0
+                from system_range(1, ?)""", config.employees());
+
+        jdbc.update("""
+                insert into employees (uuid, name, email, password, position, role, version)
+                select random_uuid(), 'Admin ' || x, 'admin' || x || '@loadtest.com', 'unused', 'DEVELOPER',
+                       'ROLE_ADMIN', 0
+                from system_range(1, ?)""", ADMINS);
+
+        long firstProject = jdbc.queryForObject("select min(id) from projects", Long.class);
+        long firstEmployee = jdbc.queryForObject("select min(id) from employees", Long.class);
+
+        jdbc.update("""
+                insert into employee_projects (employee_id, project_id)
+                select id, ? + mod(id, ?) from employees""", firstProject, config.projects());
+
+        // Ids de la secuencia de Hibernate para que las tareas creadas durante la prueba no choquen con estas
+        jdbc.update("""
+                insert into tasks (id, uuid, description, status, project_id, employee_id, created_at, updated_at,
+                                   version)
+                select next value for tasks_id_seq, random_uuid(),
+                       'Task ' || x || ' ' || case mod(x, 5) when 0 then 'backend' when 1 then 'frontend'
+                                                             when 2 then 'database' when 3 then 'release'
+                                                             else 'review' end,
+                       case mod(x, 3) when 0 then 'TODO' when 1 then 'IN_PROGRESS' else 'DONE' end,
+                       ? + mod(x, ?),
+                       case when mod(x, 10) = 0 then null else ? + mod(x, ?) end,
+                       dateadd(second, x, timestamp '2025-01-01 00:00:00'), current_timestamp, 0
+                from system_range(1, ?)""",
+                firstProject, config.projects(), firstEmployee, config.employees(), config.tasks());
+
+        // El índice se construyó al arrancar, con la base de datos vacía
+        context.getBeanProvider(InMemorySearchEngine.class).ifAvailable(InMemorySearchEngine::rebuild);
+
+        JwtService jwtService = context.getBean(JwtService.class);
+        CustomUserDetailsService userDetailsService = context.getBean(CustomUserDetailsService.class);
+
+        List<String> tokens = new ArrayList<>();
+        for (int i = 1; i <= ADMINS; i++) {
+            tokens.add(jwtService.generateToken(userDetailsService.loadUserByUsername("admin" + i + "@loadtest.com")));
+        }
+
+        return new SeedData(tokens,
+                sample(jdbc, "select uuid from projects order by rand() limit ?"),
+                sample(jdbc, "select uuid from employees where role = 'ROLE_USER' order by rand() limit ?"),
+                sample(jdbc, "select uuid from tasks order by rand() limit ?"));
+    }
+
+    private static List<UUID> sample(JdbcTemplate jdbc, String sql) {
+        return jdbc.queryForList(sql, UUID.class, SAMPLE_SIZE);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.demoPersonal.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+// Reparto ponderado de peticiones a /api/v1/*; cada llamada elige endpoint y parámetros al azar
+final class RequestMix {
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    record Call(String endpoint, HttpRequest request) {}
+
+    private record Endpoint(String name, int weight, Function<ThreadLocalRandom, HttpRequest.Builder> request) {}
+
+    private final String baseUrl;
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private int totalWeight;
+
+    RequestMix(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    // Mayoría de lecturas paginadas y por uuid, algo de búsqueda y un 5 % de escrituras
+    static RequestMix standard(LoadTestServer server, LoadTestConfig config) {
+        LoadTestServer.SeedData seed = server.seed();
+        int taskPages = Math.max(1, Math.min(config.tasks() / 20, 500));
+        int employeePages = Math.max(1, Math.min(config.employees() / 20, 500));
+
+        return new RequestMix(server.baseUrl())
+                .get("tasks page", 20, random -> "/api/v1/tasks?size=20&page=" + random.nextInt(taskPages))
+                .get("tasks by status", 10, random -> "/api/v1/tasks/search-by-status?size=20&status="
+                        + pick(random, List.of("TODO", "IN_PROGRESS", "DONE")))
+                .get("tasks scroll", 5, random -> "/api/v1/tasks/scroll?size=20")
+                .get("task", 15, random -> "/api/v1/tasks/" + pick(random, seed.tasks()))
+                .get("employees page", 5, random -> "/api/v1/employees?size=20&page=" + random.nextInt(employeePages))
+                .get("employee", 10, random -> "/api/v1/employees/" + pick(random, seed.employees()))
+                .get("employee tasks", 10, random -> "/api/v1/employees/" + pick(random, seed.employees())
+                        + "/tasks?size=20")
+                .get("current employee", 5, random -> "/api/v1/employees/me")
+                .get("projects page", 5, random -> "/api/v1/projects?size=20")
+                .get("project tasks", 5, random -> "/api/v1/projects/" + pick(random, seed.projects())
+                        + "/tasks?size=20")
+                .get("search", 5, random -> "/api/v1/tasks/search?limit=20&q=" + (1 + random.nextInt(9_999)))
+                .put("assign task", 5, random -> "/api/v1/tasks/" + pick(random, seed.tasks())
+                        + "/employees/" + pick(random, seed.employees()));
+    }
+
+    RequestMix get(String name, int weight, Function<ThreadLocalRandom, String> path) {
+        return add(name, weight, random -> builder(path.apply(random)).GET());
+    }
+
+    RequestMix put(String name, int weight, Function<ThreadLocalRandom, String> path) {
+        return add(name, weight, random -> builder(path.apply(random)).PUT(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    RequestMix add(String name, int weight, Function<ThreadLocalRandom, HttpRequest.Builder> request) {
+        endpoints.add(new Endpoint(name, weight, request));
+        totalWeight += weight;
+
+        return this;
+    }
+
+    List<String> endpointNames() {
+        return endpoints.stream().map(Endpoint::name).toList();
+    }
+
+    Call next(String token) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int ticket = random.nextInt(totalWeight);
+
+        for (Endpoint endpoint : endpoints) {
+            ticket -= endpoint.weight();
+
+            if (ticket < 0) {
+                HttpRequest request = endpoint.request().apply(random)
+                        .header("Authorization", "Bearer " + token)
+                        .build();
+
+                return new Call(endpoint.name(), request);
+            }
+        }
+
+        throw new IllegalStateException("Empty request mix");
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+    }
+
+    private static <T> T pick(ThreadLocalRandom random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demoPersonal.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// Umbrales que la prueba no debe superar; -Dloadtest.slo.<nombre>=none desactiva uno
+record Slo(Duration p50, Duration p99, Duration p999, Double minThroughput, Double maxErrorRate,
+           Double maxStatementsPerRequest, DataSize maxAllocatedPerRequest) {
+
+    static Slo fromSystemProperties() {
+        return new Slo(
+                parse("p50", "50ms", DurationStyle::detectAndParse),
+                parse("p99", "250ms", DurationStyle::detectAndParse),
+                parse("p999", "1s", DurationStyle::detectAndParse),
+                parse("min-throughput", "none", Double::valueOf),
+                parse("max-error-rate", "0.001", Double::valueOf),
+                parse("max-statements-per-request", "4", Double::valueOf),
+                // H2 corre dentro de la JVM: lo que reserva la base de datos cuenta en el hilo de Tomcat
+                parse("max-allocated-per-request", "8MB", DataSize::parse));
+    }
+
+    List<String> violations(LoadReport report) {
+        List<String> violations = new ArrayList<>();
+
+        checkLatency(violations, "p50", p50, report.overall().p50Millis());
+        checkLatency(violations, "p99", p99, report.overall().p99Millis());
+        checkLatency(violations, "p999", p999, report.overall().p999Millis());
+
+        if (minThroughput != null && report.throughput() < minThroughput) {
+            violations.add(String.format("throughput %.0f req/s < %.0f req/s", report.throughput(), minThroughput));
+        }
+        if (maxErrorRate != null && report.errorRate() > maxErrorRate) {
+            violations.add(String.format("error rate %.4f > %.4f", report.errorRate(), maxErrorRate));
+        }
+        if (maxStatementsPerRequest != null && report.statementsPerRequest() > maxStatementsPerRequest) {
+            violations.add(String.format("SQL statements per request %.2f > %.2f",
+                    report.statementsPerRequest(), maxStatementsPerRequest));
+        }
+        // Sin medida (hilos virtuales) no se puede comprobar
+        if (maxAllocatedPerRequest != null && !Double.isNaN(report.allocatedBytesPerRequest())
+                && report.allocatedBytesPerRequest() > maxAllocatedPerRequest.toBytes()) {
+            violations.add(String.format("allocated %.0f KB per request > %d KB",
+                    report.allocatedBytesPerRequest() / 1024, maxAllocatedPerRequest.toKilobytes()));
+        }
+
+        return violations;
+    }
+
+    private static void checkLatency(List<String> violations, String name, Duration limit, double actualMillis) {
+        if (limit != null && actualMillis > limit.toNanos() / 1e6) {
+            violations.add(String.format("%s %.1f ms > %d ms", name, actualMillis, limit.toMillis()));
+        }
+    }
+
+    private static <T> T parse(String name, String defaultValue, Function<String, T> parser) {
+        String value = System.getProperty("loadtest.slo." + name, defaultValue);
+
+        return "none".equals(value) ? null : parser.apply(value);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demoPersonal.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Prueba de carga del mismo escenario con la app en hilos de plataforma (Tomcat, 200 hilos) y en hilos
+// virtuales (perfil virtual-threads): N clientes concurrentes en bucle cerrado, se comparan peticiones/s y p99.
+// Solo a petición: mvn test -Dtest=ThreadModeLoadTest -Dloadtest=true [-Dloadtest.clients=2000 -Dloadtest.duration=30s]
+// El modo virtual necesita Java 21 (mvn -Pjava21); en Java 17 solo se mide el de plataforma.
+// Usa el perfil test (H2 en memoria): sirve para comparar modos en la misma máquina, no como cifra absoluta.
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class ThreadModeLoadTest {
+
+    enum ThreadMode {
+        PLATFORM, VIRTUAL
+    }
+
+    @Test
+    void compareThreadModes() {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties(2_000);
+        List<LoadReport> reports = new ArrayList<>();
+
+        reports.add(run(ThreadMode.PLATFORM, config));
+
+        if (Runtime.version().feature() >= 21) {
+            reports.add(run(ThreadMode.VIRTUAL, config));
+        } else {
+            System.out.println("Virtual-thread mode skipped: it needs Java 21 (running on "
+                    + Runtime.version().feature() + ")");
+        }
+
+        reports.forEach(report -> System.out.println(report.format()));
+
+        // Aquí se comparan modos: de los SLO solo se aplica la tasa de errores
+        Double maxErrorRate = config.slo().maxErrorRate();
+        for (LoadReport report : reports) {
+            assertTrue(maxErrorRate == null || report.errorRate() <= maxErrorRate,
+                    () -> report.name() + " mode had " + report.errors() + " failed requests");
+        }
+    }
+
+    private LoadReport run(ThreadMode mode, LoadTestConfig config) {
+        String[] profiles = mode == ThreadMode.VIRTUAL ? new String[] {"virtual-threads"} : new String[0];
+
+        try (LoadTestServer server = LoadTestServer.start(mode.name(), config, profiles)) {
+            return LoadDriver.run(mode.name(), server, RequestMix.standard(server, config), config);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.demoPersonal.repository;
+
+import com.example.demoPersonal.dto.employee.EmployeeRequestDTO;
+import com.example.demoPersonal.dto.employee.EmployeeResponseDTO;
+import com.example.demoPersonal.dto.project.ProjectMembersResponseDTO;
+import com.example.demoPersonal.entity.Employee;
+import com.example.demoPersonal.entity.Project;
+import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.service.EmployeeService;
+import com.example.demoPersonal.service.ProjectService;
+import com.example.demoPersonal.support.StatementCounter;
+import com.example.demoPersonal.support.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Sin @Transactional: la subida de versión y la caché de segundo nivel se ven tras el commit
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectMembershipTest {
+    private static final int PROJECTS = 20;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    private StatementCounter counter;
+    private TestData testData;
+    private final List<UUID> projectUuids = new ArrayList<>();
+    private final List<UUID> employeeUuids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        counter = new StatementCounter(entityManagerFactory);
+        testData = new TestData(context);
+
+        for (int i = 0; i < PROJECTS; i++) {
+            projectUuids.add(testData.createProject("Membership project " + i));
+        }
+
+        for (int i = 0; i < 3; i++) {
+            employeeUuids.add(testData.saveEmployee("Member " + i, "member" + i + "@test.com", Position.DEVELOPER));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.cleanUp();
+    }
+
+    @Test
+    void assignProject_shouldNotDependOnHowManyProjectsTheEmployeeHas() {
+        // GIVEN
+        UUID employeeUuid = employeeUuids.get(0);
+        employeeService.assignProject(employeeUuid, projectUuids.get(0));
+        long first = counter.count(() -> employeeService.assignProject(employeeUuid, projectUuids.get(1)));
+
+        for (int i = 2; i < PROJECTS - 1; i++) {
+            employeeService.assignProject(employeeUuid, projectUuids.get(i));
+        }
+
+        // WHEN
+        long last = counter.count(() -> employeeService.assignProject(employeeUuid, projectUuids.get(PROJECTS - 1)));
+
+        // THEN: la colección de proyectos no se carga ni se reescribe
+        assertEquals(first, last);
+        assertEquals(PROJECTS, memberships(employeeUuid));
+    }
+
+    @Test
+    void assignProject_shouldBeIdempotentWithoutBumpingVersion() {
+        // GIVEN
+        UUID employeeUuid = employeeUuids.get(0);
+        long initialVersion = version(employeeUuid);
+        String initialTag = employeeService.getEmployeeVersion(employeeUuid).orElseThrow();
+
+        // WHEN: una sola sentencia por asignación, sin leer antes la relación
+        Project project = projectRepository.findByUuid(projectUuids.get(0)).orElseThrow();
+        Employee employee = employeeRepository.findByUuid(employeeUuid).orElseThrow();
+        counter.assertStatements(1, () -> employeeRepository.addProjectMembers(project, List.of(employee)));
+        EmployeeResponseDTO result = employeeService.assignProject(employeeUuid, projectUuids.get(0));
+
+        // THEN: la versión del empleado no cambia, pero su ETag sí
+        assertEquals(1, result.projects().size());
+        assertEquals(1, memberships(employeeUuid));
+        assertEquals(initialVersion, version(employeeUuid));
+        String assignedTag = employeeService.getEmployeeVersion(employeeUuid).orElseThrow();
+        assertNotEquals(initialTag, assignedTag);
+
+        // WHEN: se cambia un proyecto por otro con la misma versión
+        employeeService.unassignProject(employeeUuid, projectUuids.get(0));
+        result = employeeService.unassignProject(employeeUuid, projectUuids.get(0));
+
+        // THEN
+        assertTrue(result.projects().isEmpty());
+        assertEquals(0, memberships(employeeUuid));
+        assertEquals(initialVersion, version(employeeUuid));
+
+        employeeService.assignProject(employeeUuid, projectUuids.get(1));
+        assertNotEquals(assignedTag, employeeService.getEmployeeVersion(employeeUuid).orElseThrow());
+    }
+
+    @Test
+    void updateEmployee_shouldSucceedAfterAssign() {
+        // GIVEN: el empleado queda en la caché de segundo nivel antes de asignarle un proyecto con SQL
+        UUID employeeUuid = employeeUuids.get(0);
+        employeeService.getEmployeeVersion(employeeUuid);
+        employeeRepository.findByUuid(employeeUuid);
+        employeeService.assignProject(employeeUuid, projectUuids.get(0));
+
+        // WHEN
+        EmployeeResponseDTO result = employeeService.updateEmployee(employeeUuid,
+                new EmployeeRequestDTO("Renamed member", "member0@test.com", Position.DEVELOPER, "password"));
+
+        // THEN
+        assertEquals("Renamed member", result.name());
+        assertEquals(1, result.projects().size());
+    }
+
+    @Test
+    void assignEmployees_shouldAddAndRemoveMembersInBatch() {
+        // GIVEN
+        UUID projectUuid = projectUuids.get(0);
+        UUID unknown = UUID.randomUUID();
+        employeeService.assignProject(employeeUuids.get(0), projectUuid);
+
+        List<UUID> requested = new ArrayList<>(employeeUuids);
+        requested.add(unknown);
+
+        // WHEN
+        ProjectMembersResponseDTO assigned = projectService.assignEmployees(projectUuid, requested);
+
+        // THEN
+        assertEquals(2, assigned.changed());
+        assertEquals(1, assigned.unchanged());
+        assertEquals(List.of(unknown), assigned.notFound());
+        employeeUuids.forEach(uuid -> assertEquals(1, memberships(uuid)));
+
+        // WHEN
+        ProjectMembersResponseDTO unassigned = projectService.unassignEmployees(projectUuid,
+                employeeUuids.subList(0, 2));
+
+        // THEN
+        assertEquals(2, unassigned.changed());
+        assertEquals(0, unassigned.unchanged());
+        assertEquals(0, memberships(employeeUuids.get(0)));
+        assertEquals(1, memberships(employeeUuids.get(2)));
+        assertEquals(1, employeeService.getEmployeeByUuid(employeeUuids.get(2)).projects().size());
+    }
+
+    private long version(UUID employeeUuid) {
+        return jdbcTemplate.queryForObject("select version from employees where uuid = ?", Long.class, employeeUuid);
+    }
+
+    private int memberships(UUID employeeUuid) {
+        return jdbcTemplate.queryForObject("""
+                select count(*) from employee_projects ep join employees e on e.id = ep.employee_id
+                where e.uuid = ?""", Integer.class, employeeUuid);
+    }
+}
@@ -0,0 +1,337 @@
+package com.example.demoPersonal.repository;
+
+import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.entity.enums.Status;
+import com.example.demoPersonal.search.SearchEngine;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Aplica las migraciones de Flyway sobre un PostgreSQL real, siembra datos y comprueba con EXPLAIN que
+// ninguna consulta de los repositorios hace Seq Scan sobre una tabla de más de SEQ_SCAN_THRESHOLD filas.
+// Se llama a cada método como lo hacen los servicios (paginado por id) y se explica el SQL que Hibernate
+// envió de verdad, capturado con datasource-proxy junto con sus parámetros.
+// Quedan fuera los streams de exportación y las versiones sin filtro o por estado: leen toda la tabla o buena
+// parte de ella a propósito.
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+@ActiveProfiles("test")
+class QueryPlanIndexTest {
+    private static final long SEQ_SCAN_THRESHOLD = 1_000;
+
+    private static final PageRequest PAGE = PageRequest.of(0, 20, Sort.by("id"));
+    private static final PageRequest KEYSET_PAGE = PageRequest.ofSize(21);
+    private static final String EMPLOYEE_EMAIL = "employee7@test.com";
+    private static final String TASK_DESCRIPTION = "Task 4242";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final List<QueryInfo> captured = Collections.synchronizedList(new ArrayList<>());
+
+    private static UUID projectUuid;
+    private static UUID employeeUuid;
+    private static UUID taskUuid;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private SearchEngine searchEngine;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", postgres::getDriverClassName);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("search.engine", () -> "postgres");
+        // El esquema ya lo migra migrateAndSeed; sin el proxy de métricas solo queda el de captura
+        registry.add("spring.flyway.enabled", () -> "false");
+        registry.add("sql.metrics.enabled", () -> "false");
+    }
+
+    // Envuelve el DataSource para guardar cada SELECT con los parámetros con los que se ejecutó
+    @TestConfiguration
+    static class CaptureConfig {
+        @Bean
+        static BeanPostProcessor capturingDataSourceProxy() {
+            QueryExecutionListener listener = new QueryExecutionListener() {
+                @Override
+                public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                }
+
+                @Override
+                public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                    queryInfoList.stream()
+                            .filter(query -> query.getQuery().stripLeading().toLowerCase().startsWith("select"))
+                            .forEach(captured::add);
+                }
+            };
+
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource
+                            ? ProxyDataSourceBuilder.create(beanName, dataSource).listener(listener).build()
+                            : bean;
+                }
+            };
+        }
+    }
+
+    @FunctionalInterface
+    private interface RepositoryCall {
+        void run(QueryPlanIndexTest test);
+    }
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        // Igual que spring.flyway.postgresql.transactional-lock en application.yml
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    insert into projects(name, uuid)
+                    select 'Project ' || g, gen_random_uuid() from generate_series(1, 2000) g
+                    """);
+            statement.execute("""
+                    insert into employees(name, email, password, position, role, uuid)
+                    select 'Employee ' || g, 'employee' || g || '@test.com', 'x',
+                           (array['DEVELOPER', 'BACKEND_DEVELOPER', 'FRONTEND_DEVELOPER', 'QA_ENGINEER'])[1 + g % 4],
+                           'ROLE_USER', gen_random_uuid()
+                    from generate_series(1, 20000) g
+                    """);
+            statement.execute("""
+                    insert into employee_projects(employee_id, project_id)
+                    select e.id, p.id from employees e join projects p on p.id = 1 + e.id % 2000
+                    """);
+            statement.execute("""
+                    insert into tasks(description, status, project_id, employee_id, uuid)
+                    select 'Task ' || g,
+                           (array['TODO', 'IN_PROGRESS', 'DONE'])[1 + g % 3],
+                           (select min(id) from projects) + g % 2000,
+                           case when g % 10 = 0 then null else (select min(id) from employees) + g % 20000 end,
+                           gen_random_uuid()
+                    from generate_series(1, 200000) g
+                    """);
+            statement.execute("analyze");
+
+            projectUuid = uuidOf(statement, "select uuid from projects where name = 'Project 7'");
+            employeeUuid = uuidOf(statement, "select uuid from employees where email = '" + EMPLOYEE_EMAIL + "'");
+            taskUuid = uuidOf(statement, "select uuid from tasks where description = '" + TASK_DESCRIPTION + "'");
+        }
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                call("TaskRepository.findByUuid", test -> test.taskRepository.findByUuid(taskUuid)),
+                call("TaskRepository.findByUuidIn", test -> test.taskRepository.findByUuidIn(Set.of(taskUuid))),
+                call("TaskRepository.findDTOByUuid", test -> test.taskRepository.findDTOByUuid(taskUuid)),
+                call("TaskRepository.findDTOByDescription",
+                        test -> test.taskRepository.findDTOByDescription(TASK_DESCRIPTION, PAGE)),
+                call("TaskRepository.findDTOByStatus", test -> test.taskRepository.findDTOByStatus(Status.TODO, PAGE)),
+                call("TaskRepository.findDTOByEmployeeIsNull",
+                        test -> test.taskRepository.findDTOByEmployeeIsNull(PAGE)),
+                call("TaskRepository.findAllDTO", test -> test.taskRepository.findAllDTO(PAGE)),
+                call("TaskRepository.findFirstRows", test -> test.taskRepository.findFirstRows(KEYSET_PAGE)),
+                call("TaskRepository.findRowsAfter", test -> test.taskRepository.findRowsAfter(150_000, KEYSET_PAGE)),
+                call("TaskRepository.findDTOByProjectUuid",
+                        test -> test.taskRepository.findDTOByProjectUuid(projectUuid, PAGE)),
+                call("TaskRepository.findDTOByEmployeeUuid",
+                        test -> test.taskRepository.findDTOByEmployeeUuid(employeeUuid, PAGE)),
+                call("TaskRepository.findDTOByEmployeeEmail",
+                        test -> test.taskRepository.findDTOByEmployeeEmail(EMPLOYEE_EMAIL, PAGE)),
+                call("TaskRepository.findVersionByUuid", test -> test.taskRepository.findVersionByUuid(taskUuid)),
+                call("TaskRepository.findVersionByDescription",
+                        test -> test.taskRepository.findVersionByDescription(TASK_DESCRIPTION)),
+                call("TaskRepository.findVersionByProjectUuid",
+                        test -> test.taskRepository.findVersionByProjectUuid(projectUuid)),
+                call("TaskRepository.findVersionByEmployeeUuid",
+                        test -> test.taskRepository.findVersionByEmployeeUuid(employeeUuid)),
+                call("TaskRepository.findVersionByEmployeeEmail",
+                        test -> test.taskRepository.findVersionByEmployeeEmail(EMPLOYEE_EMAIL)),
+                call("EmployeeRepository.findByEmail", test -> test.employeeRepository.findByEmail(EMPLOYEE_EMAIL)),
+                call("EmployeeRepository.findByUuidIn",
+                        test -> test.employeeRepository.findByUuidIn(Set.of(employeeUuid))),
+                call("EmployeeRepository.findUuids", test -> test.employeeRepository.findUuids(PAGE)),
+                call("EmployeeRepository.findFirstKeys", test -> test.employeeRepository.findFirstKeys(KEYSET_PAGE)),
+                call("EmployeeRepository.findKeysAfter",
+                        test -> test.employeeRepository.findKeysAfter(15_000, KEYSET_PAGE)),
+                call("EmployeeRepository.findRowsByUuidIn",
+                        test -> test.employeeRepository.findRowsByUuidIn(Set.of(employeeUuid))),
+                call("EmployeeRepository.findRowsByUuid", test -> test.employeeRepository.findRowsByUuid(employeeUuid)),
+                call("EmployeeRepository.findRowsByEmail",
+                        test -> test.employeeRepository.findRowsByEmail(EMPLOYEE_EMAIL)),
+                call("EmployeeRepository.findVersionByUuid",
+                        test -> test.employeeRepository.findVersionByUuid(employeeUuid)),
+                call("EmployeeRepository.findVersionByEmail",
+                        test -> test.employeeRepository.findVersionByEmail(EMPLOYEE_EMAIL)),
+                call("EmployeeRepository.findUuidsByName",
+                        test -> test.employeeRepository.findUuidsByName("EMPLOYEE 42", PAGE)),
+                call("EmployeeRepository.findUuidsByPosition",
+                        test -> test.employeeRepository.findUuidsByPosition(Position.QA_ENGINEER, PAGE)),
+                call("EmployeeRepository.findUuidsByProjectUuid",
+                        test -> test.employeeRepository.findUuidsByProjectUuid(projectUuid, PAGE)),
+                call("EmployeeRepository.findTokenVersionByEmail",
+                        test -> test.employeeRepository.findTokenVersionByEmail(EMPLOYEE_EMAIL)),
+                call("EmployeeRepository.findCacheKeysByProjectUuid",
+                        test -> test.employeeRepository.findCacheKeysByProjectUuid(projectUuid)),
+                call("ProjectRepository.findByUuidIn",
+                        test -> test.projectRepository.findByUuidIn(Set.of(projectUuid))),
+                call("ProjectRepository.findDTOByUuid", test -> test.projectRepository.findDTOByUuid(projectUuid)),
+                call("ProjectRepository.findVersionByUuid",
+                        test -> test.projectRepository.findVersionByUuid(projectUuid)),
+                call("ProjectRepository.findDTOByName",
+                        test -> test.projectRepository.findDTOByName("Project 7", PAGE)),
+                call("ProjectRepository.findAllDTO", test -> test.projectRepository.findAllDTO(PAGE)),
+                call("PostgresSearchEngine.search", test -> test.searchEngine.search("4242", 20))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void query_shouldNotSeqScanLargeTables(String repositoryMethod, RepositoryCall repositoryCall) throws Exception {
+        captured.clear();
+        repositoryCall.run(this);
+        List<QueryInfo> queries = List.copyOf(captured);
+
+        assertFalse(queries.isEmpty(), repositoryMethod + " did not run any SELECT");
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            for (QueryInfo query : queries) {
+                JsonNode plan = explain(connection, query);
+
+                List<String> seqScans = new ArrayList<>();
+                collectSeqScans(plan, seqScans);
+
+                for (String relation : seqScans) {
+                    long rows = estimatedRows(statement, relation);
+
+                    assertTrue(rows <= SEQ_SCAN_THRESHOLD, repositoryMethod + " does a sequential scan on " + relation
+                            + " (" + rows + " rows):\n" + query.getQuery() + "\n" + plan);
+                }
+            }
+        }
+    }
+
+    // V5 y V7 usan CREATE INDEX CONCURRENTLY: si se interrumpen dejan índices INVALID que no se usan
+    @Test
+    void concurrentMigrations_shouldLeaveValidIndexes() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("""
+                     select count(*) filter (where i.indisvalid), count(*) filter (where not i.indisvalid)
+                     from pg_index i join pg_class c on c.oid = i.indexrelid
+                     where c.relname in ('idx_tasks_project_id_updated_at', 'idx_tasks_employee_id_updated_at',
+                                         'idx_tasks_status_updated_at')
+                        or not i.indisvalid
+                     """)) {
+            resultSet.next();
+
+            assertEquals(3, resultSet.getLong(1));
+            assertEquals(0, resultSet.getLong(2));
+        }
+    }
+
+    private static Arguments call(String repositoryMethod, RepositoryCall repositoryCall) {
+        return Arguments.of(repositoryMethod, repositoryCall);
+    }
+
+    // Repite sobre EXPLAIN las mismas llamadas setXxx que hizo el driver al ejecutar la consulta
+    private static JsonNode explain(Connection connection, QueryInfo query) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement("explain (format json) " + query.getQuery())) {
+            if (!query.getParametersList().isEmpty()) {
+                for (ParameterSetOperation operation : query.getParametersList().get(0)) {
+                    operation.getMethod().invoke(statement, operation.getArgs());
+                }
+            }
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return objectMapper.readTree(resultSet.getString(1)).get(0).get("Plan");
+            }
+        }
+    }
+
+    private static UUID uuidOf(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getObject(1, UUID.class);
+        }
+    }
+
+    private static void collectSeqScans(JsonNode node, List<String> seqScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            seqScans.add(node.path("Relation Name").asText());
+        }
+
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, seqScans);
+        }
+    }
+
+    private static long estimatedRows(Statement statement, String relation) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(
+                "select reltuples::bigint from pg_class where relname = '" + relation + "'")) {
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+}
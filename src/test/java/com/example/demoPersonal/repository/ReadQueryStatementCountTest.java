@@ -0,0 +1,243 @@
+package com.example.demoPersonal.repository;
+
+import com.example.demoPersonal.dto.employee.EmployeeResponseDTO;
+import com.example.demoPersonal.dto.page.CursorPageResponseDTO;
+import com.example.demoPersonal.dto.task.TaskResponseDTO;
+import com.example.demoPersonal.entity.Employee;
+import com.example.demoPersonal.entity.Project;
+import com.example.demoPersonal.entity.Task;
+import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.entity.enums.Status;
+import com.example.demoPersonal.repository.projection.CollectionVersion;
+import com.example.demoPersonal.service.EmployeeService;
+import com.example.demoPersonal.service.ProjectService;
+import com.example.demoPersonal.service.TaskService;
+import com.example.demoPersonal.support.StatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ReadQueryStatementCountTest {
+    private static final int EMPLOYEES = 12;
+    private static final int TASKS_PER_EMPLOYEE = 3;
+    private static final PageRequest PAGE = PageRequest.of(0, 20);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    private StatementCounter counter;
+    private UUID projectUuid;
+    private UUID employeeUuid;
+    private String employeeEmail;
+
+    @BeforeEach
+    void setUp() {
+        counter = new StatementCounter(entityManagerFactory);
+
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Project project = new Project();
+            project.setName("Project " + i);
+            entityManager.persist(project);
+            projects.add(project);
+        }
+
+        for (int i = 0; i < EMPLOYEES; i++) {
+            Employee employee = new Employee();
+            employee.setName("Employee");
+            employee.setEmail("employee" + i + "@test.com");
+            employee.setPassword("password");
+            employee.setPosition(Position.BACKEND_DEVELOPER);
+            employee.addProject(projects.get(i % 3));
+            employee.addProject(projects.get((i + 1) % 3));
+            entityManager.persist(employee);
+
+            for (int j = 0; j < TASKS_PER_EMPLOYEE; j++) {
+                Task task = new Task();
+                task.setDescription("Task");
+                task.setProject(projects.get(j % 3));
+                task.setEmployee(employee);
+                entityManager.persist(task);
+            }
+
+            employeeUuid = employee.getUuid();
+            employeeEmail = employee.getEmail();
+        }
+
+        Task unassigned = new Task();
+        unassigned.setDescription("Unassigned");
+        unassigned.setProject(projects.get(0));
+        entityManager.persist(unassigned);
+
+        projectUuid = projects.get(0).getUuid();
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getAllEmployees_shouldPageIdsAndFetchProjectsInTwoStatements() {
+        counter.assertStatements(2, () ->
+                assertEquals(10, employeeService.getAllEmployees(PageRequest.of(0, 10, Sort.by("email"))).size()));
+    }
+
+    @Test
+    void employeeFinders_shouldPageUuidsAndFetchProjectsInTwoStatements() {
+        counter.assertStatements(2, () ->
+                assertEquals(EMPLOYEES, employeeService.getEmployeeByName("employee", PAGE).size()));
+        entityManager.clear();
+        counter.assertStatements(2, () ->
+                assertEquals(5, employeeService.getEmployeesByPosition(Position.BACKEND_DEVELOPER,
+                        PageRequest.of(1, 5)).size()));
+    }
+
+    @Test
+    void employeeTasks_shouldRunTwoStatements() {
+        counter.assertStatements(2, () ->
+                assertEquals(TASKS_PER_EMPLOYEE, employeeService.getEmployeeTasks(employeeUuid, PAGE).size()));
+        entityManager.clear();
+        counter.assertStatements(2, () ->
+                assertEquals(TASKS_PER_EMPLOYEE, employeeService.getCurrentEmployeeTasks(employeeEmail, PAGE).size()));
+    }
+
+    @Test
+    void taskFinders_shouldRunSingleStatement() {
+        counter.assertStatements(1, () ->
+                assertEquals(20, taskService.getAllTasks(PageRequest.of(0, 20)).size()));
+        entityManager.clear();
+        counter.assertStatements(1, () ->
+                assertEquals(PAGE.getPageSize(), taskService.getTaskByStatus(Status.TODO, PAGE).size()));
+        entityManager.clear();
+        counter.assertStatements(1, () ->
+                assertEquals(6, taskService.getTasksByDescription("Task", PageRequest.of(1, 30)).size()));
+        entityManager.clear();
+        counter.assertStatements(1, () -> assertEquals(1, taskService.getUnassingedTasks(PAGE).size()));
+    }
+
+    @Test
+    void collectionVersions_shouldRunSingleAggregate() {
+        CollectionVersion all = counter.expectStatements(1, taskService::getAllTasksVersion);
+        CollectionVersion byEmployee = counter.expectStatements(1,
+                () -> employeeService.getCurrentEmployeeTasksVersion(employeeEmail.toUpperCase()));
+        CollectionVersion byProject = counter.expectStatements(1, () -> projectService.getProjectTasksVersion(projectUuid));
+
+        assertEquals(EMPLOYEES * TASKS_PER_EMPLOYEE + 1, all.count());
+        assertEquals(TASKS_PER_EMPLOYEE, byEmployee.count());
+        assertEquals(EMPLOYEES + 1, byProject.count());
+        assertTrue(taskService.getTaskVersion(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void projectRelations_shouldRunConstantStatements() {
+        counter.assertStatements(3, () ->
+                assertEquals(EMPLOYEES * 2 / 3, projectService.getProjectEmployees(projectUuid, PAGE).size()));
+        entityManager.clear();
+        counter.assertStatements(2, () ->
+                assertEquals(EMPLOYEES + 1, projectService.getProjectTasks(projectUuid, PAGE).size()));
+    }
+
+    @Test
+    void streams_shouldRunSingleQueryForWholeResult() {
+        List<TaskResponseDTO> streamed = new ArrayList<>();
+
+        counter.assertStatements(1, () -> taskService.streamTasksByStatus(Status.TODO, streamed::add));
+
+        assertEquals(EMPLOYEES * TASKS_PER_EMPLOYEE + 1, streamed.size());
+    }
+
+    @Test
+    void exports_shouldStreamEveryRowInSingleQuery() {
+        List<TaskResponseDTO> tasks = new ArrayList<>();
+        List<EmployeeResponseDTO> employees = new ArrayList<>();
+
+        counter.assertStatements(1, () -> taskService.exportTasks(tasks::add));
+        counter.assertStatements(1, () -> employeeService.exportEmployees(employees::add));
+
+        assertEquals(EMPLOYEES * TASKS_PER_EMPLOYEE + 1, tasks.size());
+        assertEquals(EMPLOYEES, employees.size());
+        assertEquals(EMPLOYEES, employees.stream().map(EmployeeResponseDTO::uuid).distinct().count());
+        employees.forEach(employee -> assertEquals(2, employee.projects().size()));
+    }
+
+    @Test
+    void scroll_shouldVisitEveryRowOnceWithConstantStatementsPerPage() {
+        Set<UUID> seen = new HashSet<>();
+        String cursor = null;
+
+        do {
+            String current = cursor;
+            CursorPageResponseDTO<TaskResponseDTO> page =
+                    counter.expectStatements(1, () -> taskService.scrollTasks(current, 5));
+
+            page.items().forEach(task -> assertTrue(seen.add(task.uuid())));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(EMPLOYEES * TASKS_PER_EMPLOYEE + 1, seen.size());
+
+        seen.clear();
+        do {
+            String current = cursor;
+            CursorPageResponseDTO<EmployeeResponseDTO> page =
+                    counter.expectStatements(2, () -> employeeService.scrollEmployees(current, 5));
+
+            page.items().forEach(employee -> assertTrue(seen.add(employee.uuid())));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(EMPLOYEES, seen.size());
+    }
+
+    @Test
+    void scroll_shouldContinue_whenCursorRowIsDeleted() {
+        // GIVEN
+        CursorPageResponseDTO<TaskResponseDTO> first = taskService.scrollTasks(null, 5);
+        UUID last = first.items().get(4).uuid();
+
+        // WHEN: la última tarea de la página se borra antes de pedir la siguiente
+        entityManager.createQuery("delete from Task t where t.uuid = :uuid")
+                .setParameter("uuid", last)
+                .executeUpdate();
+
+        CursorPageResponseDTO<TaskResponseDTO> next =
+                counter.expectStatements(1, () -> taskService.scrollTasks(first.nextCursor(), 5));
+
+        // THEN
+        Set<UUID> seen = new HashSet<>();
+        first.items().forEach(task -> seen.add(task.uuid()));
+
+        assertEquals(5, next.items().size());
+        next.items().forEach(task -> assertTrue(seen.add(task.uuid())));
+    }
+}
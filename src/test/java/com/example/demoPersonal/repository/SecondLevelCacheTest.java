@@ -0,0 +1,161 @@
+package com.example.demoPersonal.repository;
+
+import com.example.demoPersonal.dto.employee.EmployeeResponseDTO;
+import com.example.demoPersonal.dto.project.ProjectRequestDTO;
+import com.example.demoPersonal.dto.project.ProjectResponseDTO;
+import com.example.demoPersonal.entity.Employee;
+import com.example.demoPersonal.entity.Project;
+import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.service.EmployeeService;
+import com.example.demoPersonal.service.ProjectService;
+import com.example.demoPersonal.support.StatementCounter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Sin @Transactional: la caché de segundo nivel solo se rellena e invalida al hacer commit
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private StatementCounter counter;
+    private UUID projectUuid;
+    private UUID employeeUuid;
+
+    @BeforeEach
+    void setUp() {
+        counter = new StatementCounter(entityManagerFactory);
+        projectUuid = projectService.createProject(new ProjectRequestDTO("Cached project")).uuid();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (employeeUuid != null) {
+            employeeService.removeEmployee(employeeUuid);
+        }
+        if (projectRepository.existsByUuid(projectUuid)) {
+            projectService.removeProject(projectUuid);
+        }
+    }
+
+    @Test
+    void findByUuid_shouldBeServedFromCache() {
+        // GIVEN
+        projectRepository.findByUuid(projectUuid);
+
+        // WHEN
+        Project project = counter.expectStatements(0, () -> projectRepository.findByUuid(projectUuid).orElseThrow());
+
+        // THEN
+        assertEquals("Cached project", project.getName());
+    }
+
+    @Test
+    void updateAndRemove_shouldNotServeStaleProjects() {
+        // GIVEN
+        projectRepository.findByUuid(projectUuid);
+
+        // WHEN
+        projectService.updateProject(projectUuid, new ProjectRequestDTO("Renamed project"));
+
+        // THEN
+        assertEquals("Renamed project", projectRepository.findByUuid(projectUuid).orElseThrow().getName());
+
+        // WHEN
+        projectService.removeProject(projectUuid);
+
+        // THEN
+        assertTrue(projectRepository.findByUuid(projectUuid).isEmpty());
+    }
+
+    @Test
+    void getAllProjects_shouldUseQueryCacheUntilProjectsChange() {
+        // GIVEN
+        PageRequest page = PageRequest.of(0, 100);
+        projectService.getAllProjects(page);
+
+        // WHEN / THEN
+        counter.expectStatements(0, () -> projectService.getAllProjects(page));
+
+        // WHEN
+        projectService.updateProject(projectUuid, new ProjectRequestDTO("Renamed project"));
+        List<ProjectResponseDTO> projects = counter.expectStatements(1, () -> projectService.getAllProjects(page));
+
+        // THEN
+        assertTrue(projects.contains(new ProjectResponseDTO(projectUuid, "Renamed project")));
+    }
+
+    @Test
+    void assignProject_shouldBeVisibleWithCachedEmployee() {
+        // GIVEN
+        Employee employee = new Employee();
+        employee.setName("Cached employee");
+        employee.setEmail("cached@test.com");
+        employee.setPassword("password");
+        employee.setPosition(Position.BACKEND_DEVELOPER);
+        employeeUuid = employeeRepository.save(employee).getUuid();
+        employeeRepository.findByUuid(employeeUuid);
+
+        // WHEN
+        transactionTemplate.executeWithoutResult(status -> employeeService.assignProject(employeeUuid, projectUuid));
+
+        // THEN
+        EmployeeResponseDTO result = employeeService.getEmployeeByUuid(employeeUuid);
+        assertEquals(1, result.projects().size());
+
+        // La pertenencia a proyectos sigue desasignándose bien con el empleado en caché
+        transactionTemplate.executeWithoutResult(status -> employeeService.unassignProject(employeeUuid, projectUuid));
+        assertTrue(employeeService.getEmployeeByUuid(employeeUuid).projects().isEmpty());
+    }
+
+    @Test
+    void cacheStatistics_shouldBePublishedAsMetrics() {
+        // GIVEN
+        projectRepository.findByUuid(projectUuid);
+        projectRepository.findByUuid(projectUuid);
+
+        // WHEN
+        FunctionCounter hits = meterRegistry.find("cache.gets").tag("cache", "projects").tag("result", "hit")
+                .functionCounter();
+
+        // THEN
+        assertNotNull(hits);
+        assertTrue(hits.count() > 0);
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", "projects").functionCounter());
+    }
+}
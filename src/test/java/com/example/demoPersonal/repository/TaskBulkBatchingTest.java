@@ -0,0 +1,101 @@
+package com.example.demoPersonal.repository;
+
+import com.example.demoPersonal.dto.task.BulkTaskResponseDTO;
+import com.example.demoPersonal.dto.task.TaskAssignmentDTO;
+import com.example.demoPersonal.dto.task.TaskRequestDTO;
+import com.example.demoPersonal.entity.Employee;
+import com.example.demoPersonal.entity.Project;
+import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.entity.enums.Status;
+import com.example.demoPersonal.service.TaskService;
+import com.example.demoPersonal.support.StatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TaskBulkBatchingTest {
+    private static final int TASKS = 120;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskService taskService;
+
+    private StatementCounter counter;
+    private Project project;
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        counter = new StatementCounter(entityManagerFactory);
+
+        project = new Project();
+        project.setName("Bulk");
+        entityManager.persist(project);
+
+        employee = new Employee();
+        employee.setName("Bulk");
+        employee.setEmail("bulk@test.com");
+        employee.setPassword("password");
+        employee.setPosition(Position.BACKEND_DEVELOPER);
+        entityManager.persist(employee);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void createTasks_shouldInsertInJdbcBatches() {
+        List<TaskRequestDTO> dtos = IntStream.range(0, TASKS)
+                .mapToObj(i -> new TaskRequestDTO("Task " + i, Status.TODO, project.getUuid()))
+                .toList();
+
+        // Consulta de proyectos, reservas de ids de 50 en 50 y lotes de INSERT: sin lotes serían más de 120
+        BulkTaskResponseDTO result = counter.expectAtMostStatements(10, () -> taskService.createTasks(dtos));
+
+        assertEquals(TASKS, result.succeeded());
+        assertEquals(0, result.failed());
+    }
+
+    @Test
+    void assignTasks_shouldReportFailuresPerItemAndUpdateInBatches() {
+        List<UUID> taskUuids = taskService.createTasks(IntStream.range(0, TASKS)
+                        .mapToObj(i -> new TaskRequestDTO("Task " + i, Status.TODO, project.getUuid()))
+                        .toList())
+                .results().stream().map(item -> item.task().uuid()).toList();
+        entityManager.clear();
+
+        List<TaskAssignmentDTO> assignments = new ArrayList<>(taskUuids.stream()
+                .map(uuid -> new TaskAssignmentDTO(uuid, employee.getUuid()))
+                .toList());
+        assignments.add(5, new TaskAssignmentDTO(UUID.randomUUID(), employee.getUuid()));
+
+        // Una consulta IN de tareas, otra de empleados y lotes de UPDATE: sin lotes serían más de 120
+        BulkTaskResponseDTO result = counter.expectAtMostStatements(10, () -> taskService.assignTasks(assignments));
+
+        assertEquals(TASKS, result.succeeded());
+        assertEquals(1, result.failed());
+        assertTrue(result.results().get(5).error().contains("not found"));
+        assertEquals(employee.getUuid(), result.results().get(0).task().employeeUuid());
+    }
+}
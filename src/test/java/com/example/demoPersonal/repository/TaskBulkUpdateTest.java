@@ -0,0 +1,150 @@
+package com.example.demoPersonal.repository;
+
+import com.example.demoPersonal.dto.task.BulkTaskUpdateResponseDTO;
+import com.example.demoPersonal.dto.task.TaskChangesDTO;
+import com.example.demoPersonal.dto.task.TaskFilterDTO;
+import com.example.demoPersonal.entity.Employee;
+import com.example.demoPersonal.entity.Project;
+import com.example.demoPersonal.entity.Task;
+import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.entity.enums.Status;
+import com.example.demoPersonal.exception.ProjectNotFoundException;
+import com.example.demoPersonal.service.TaskService;
+import com.example.demoPersonal.support.StatementCounter;
+import com.example.demoPersonal.support.TestData;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TaskBulkUpdateTest {
+    private static final int TODO_TASKS = 40;
+    private static final int IN_PROGRESS_TASKS = 60;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskService taskService;
+
+    private StatementCounter counter;
+    private Project sprint;
+    private Project backlog;
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        counter = new StatementCounter(entityManagerFactory);
+
+        sprint = project("Sprint");
+        backlog = project("Backlog");
+
+        employee = TestData.employee("Closer", "closer@test.com", Position.QA_ENGINEER);
+        entityManager.persist(employee);
+
+        for (int i = 0; i < TODO_TASKS + IN_PROGRESS_TASKS; i++) {
+            Task task = TestData.task(sprint, "Sprint task " + i);
+            task.setStatus(i < TODO_TASKS ? Status.TODO : Status.IN_PROGRESS);
+            task.setEmployee(i < TODO_TASKS ? null : employee);
+            entityManager.persist(task);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void updateTasks_shouldOnlyCountMatchingTasks_whenDryRun() {
+        // GIVEN
+        TaskFilterDTO filter = new TaskFilterDTO(sprint.getUuid(), Status.TODO, null, true, null);
+
+        // WHEN
+        BulkTaskUpdateResponseDTO result = taskService.updateTasks(filter,
+                new TaskChangesDTO(Status.DONE, null, null, null), true);
+
+        // THEN
+        assertEquals(TODO_TASKS, result.affected());
+        assertTrue(result.dryRun());
+        assertEquals(0, countTasks("t.status = 'DONE'"));
+    }
+
+    @Test
+    void updateTasks_shouldUpdateEveryMatchingTaskWithOneStatement() {
+        // GIVEN
+        TaskFilterDTO filter = new TaskFilterDTO(sprint.getUuid(), Status.IN_PROGRESS, employee.getUuid(), null,
+                null);
+        TaskChangesDTO changes = new TaskChangesDTO(Status.DONE, backlog.getUuid(), null, true);
+
+        // WHEN: búsqueda del proyecto, del empleado y del proyecto destino más un UPDATE
+        BulkTaskUpdateResponseDTO result = counter.expectAtMostStatements(4,
+                () -> taskService.updateTasks(filter, changes, false));
+        entityManager.clear();
+
+        // THEN: version y updatedAt suben como en una actualización por entidad
+        assertEquals(IN_PROGRESS_TASKS, result.affected());
+        assertEquals(IN_PROGRESS_TASKS, countTasks("""
+                t.status = 'DONE' and t.project.name = 'Backlog' and t.employee is null
+                and t.version = 1 and t.updatedAt > t.createdAt"""));
+        assertEquals(TODO_TASKS, countTasks("t.status = 'TODO' and t.version = 0"));
+    }
+
+    @Test
+    void updateTasks_shouldFilterByCreationDate() {
+        // GIVEN: las tareas TODO se crearon hace un mes
+        LocalDateTime monthAgo = LocalDateTime.now().minusMonths(1);
+        entityManager.createQuery("update Task t set t.createdAt = :createdAt where t.status = :status")
+                .setParameter("createdAt", monthAgo)
+                .setParameter("status", Status.TODO)
+                .executeUpdate();
+
+        // WHEN
+        BulkTaskUpdateResponseDTO result = taskService.updateTasks(
+                new TaskFilterDTO(null, null, null, null, monthAgo.plusDays(1)),
+                new TaskChangesDTO(null, null, employee.getUuid(), null), false);
+        entityManager.clear();
+
+        // THEN
+        assertEquals(TODO_TASKS, result.affected());
+        assertEquals(TODO_TASKS + IN_PROGRESS_TASKS, countTasks("t.employee.email = 'closer@test.com'"));
+    }
+
+    @Test
+    void updateTasks_shouldThrowException_whenProjectNotExists() {
+        // GIVEN
+        TaskFilterDTO filter = new TaskFilterDTO(UUID.randomUUID(), null, null, null, null);
+
+        // WHEN - THEN
+        assertThrows(ProjectNotFoundException.class, () -> taskService.updateTasks(filter,
+                new TaskChangesDTO(Status.DONE, null, null, null), false));
+    }
+
+    private Project project(String name) {
+        Project project = new Project();
+        project.setName(name);
+        entityManager.persist(project);
+
+        return project;
+    }
+
+    private long countTasks(String condition) {
+        return entityManager.createQuery("select count(t) from Task t where " + condition, Long.class)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demoPersonal.search;
+
+import com.example.demoPersonal.dto.search.SearchHitDTO;
+import com.example.demoPersonal.dto.search.SearchHitType;
+import com.example.demoPersonal.repository.EmployeeRepository;
+import com.example.demoPersonal.repository.ProjectRepository;
+import com.example.demoPersonal.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class InMemorySearchEngineTest {
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @InjectMocks
+    private InMemorySearchEngine engine;
+
+    private final UUID deployTask = UUID.randomUUID();
+    private final UUID reviewTask = UUID.randomUUID();
+    private final UUID employee = UUID.randomUUID();
+    private final UUID project = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        engine.index(SearchHitType.TASK, deployTask, "Deploy backend to production");
+        engine.index(SearchHitType.TASK, reviewTask, "Review deployment checklist");
+        engine.index(SearchHitType.EMPLOYEE, employee, "Debora Pérez");
+        engine.index(SearchHitType.PROJECT, project, "Backend");
+    }
+
+    @Test
+    void search_shouldRankExactMatchesAbovePrefixMatches() {
+        // WHEN
+        List<SearchHitDTO> hits = engine.search("deploy", 10);
+
+        // THEN
+        assertEquals(List.of(deployTask, reviewTask), hits.stream().map(SearchHitDTO::uuid).toList());
+        assertTrue(hits.get(0).rank() > hits.get(1).rank());
+    }
+
+    @Test
+    void search_shouldRequireEveryTerm() {
+        // WHEN
+        List<SearchHitDTO> hits = engine.search("back prod", 10);
+
+        // THEN
+        assertEquals(1, hits.size());
+        assertEquals(deployTask, hits.get(0).uuid());
+    }
+
+    @Test
+    void search_shouldMatchEmployeesAndProjectsIgnoringCase() {
+        // WHEN
+        List<SearchHitDTO> employees = engine.search("PÉR", 10);
+        List<SearchHitDTO> projects = engine.search("backend", 10);
+
+        // THEN
+        assertEquals(SearchHitType.EMPLOYEE, employees.get(0).type());
+        assertEquals(employee, employees.get(0).uuid());
+        // El proyecto tiene una sola palabra: la coincidencia pesa más que en la tarea
+        assertEquals(project, projects.get(0).uuid());
+        assertEquals(deployTask, projects.get(1).uuid());
+    }
+
+    @Test
+    void search_shouldReflectUpdatesAndRemovals() {
+        // GIVEN
+        engine.index(SearchHitType.TASK, deployTask, "Rollback release");
+        engine.remove(SearchHitType.PROJECT, project);
+
+        // WHEN / THEN
+        assertEquals(List.of(reviewTask), engine.search("deploy", 10).stream().map(SearchHitDTO::uuid).toList());
+        assertEquals(List.of(deployTask), engine.search("roll", 10).stream().map(SearchHitDTO::uuid).toList());
+        assertTrue(engine.search("backend", 10).isEmpty());
+    }
+
+    @Test
+    void search_shouldMatchShortTermsAsWholeWordsOnly() {
+        // GIVEN
+        UUID qaTask = UUID.randomUUID();
+        engine.index(SearchHitType.TASK, qaTask, "QA sign off");
+
+        // WHEN / THEN: "de" no es prefijo de "deploy" ni de "debora"
+        assertTrue(engine.search("de", 10).isEmpty());
+        assertEquals(List.of(qaTask), engine.search("qa", 10).stream().map(SearchHitDTO::uuid).toList());
+    }
+
+    @Test
+    void search_shouldReturnNothingForQueriesWithoutWords() {
+        // WHEN / THEN
+        assertTrue(engine.search("  -- ", 10).isEmpty());
+    }
+}
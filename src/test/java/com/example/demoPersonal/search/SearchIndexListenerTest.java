@@ -0,0 +1,67 @@
+package com.example.demoPersonal.search;
+
+import com.example.demoPersonal.dto.project.ProjectRequestDTO;
+import com.example.demoPersonal.dto.project.ProjectResponseDTO;
+import com.example.demoPersonal.dto.search.SearchHitDTO;
+import com.example.demoPersonal.dto.search.SearchHitType;
+import com.example.demoPersonal.dto.task.TaskRequestDTO;
+import com.example.demoPersonal.dto.task.TaskResponseDTO;
+import com.example.demoPersonal.entity.enums.Status;
+import com.example.demoPersonal.service.ProjectService;
+import com.example.demoPersonal.service.SearchService;
+import com.example.demoPersonal.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Sin @Transactional: el índice solo se actualiza cuando la transacción hace commit
+@SpringBootTest
+@ActiveProfiles("test")
+class SearchIndexListenerTest {
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private SearchService searchService;
+
+    private ProjectResponseDTO project;
+
+    @AfterEach
+    void tearDown() {
+        if (project != null) {
+            projectService.removeProject(project.uuid());
+        }
+    }
+
+    @Test
+    void committedChanges_shouldBeSearchable() {
+        // GIVEN
+        project = projectService.createProject(new ProjectRequestDTO("Zephyr platform"));
+        TaskResponseDTO task = taskService.createTask(
+                new TaskRequestDTO("Zephyr migration", Status.TODO, project.uuid()));
+
+        // WHEN
+        List<SearchHitDTO> hits = searchService.search("zeph", 20);
+
+        // THEN
+        assertEquals(2, hits.size());
+        assertTrue(hits.stream().anyMatch(hit -> hit.type() == SearchHitType.TASK && hit.uuid().equals(task.uuid())));
+        assertTrue(hits.stream().anyMatch(hit -> hit.type() == SearchHitType.PROJECT));
+
+        // WHEN
+        taskService.removeTask(task.uuid());
+
+        // THEN
+        assertEquals(List.of(project.uuid()), searchService.search("zephyr", 20).stream().map(SearchHitDTO::uuid).toList());
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.demoPersonal.security;
+
+import com.example.demoPersonal.entity.Employee;
+import com.example.demoPersonal.repository.EmployeeRepository;
+import com.example.demoPersonal.repository.projection.TokenVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final TokenVersionRegistry tokenVersionRegistry =
+            new TokenVersionRegistry(employeeRepository, 100, Duration.ofMinutes(5));
+    private final JwtService jwtService = new JwtService(tokenVersionRegistry);
+    private final JwtTokenCache tokenCache = new JwtTokenCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+    private final CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+
+    private final UserDetails userDetails = User.withUsername("admin@local.com")
+            .password("encoded-password")
+            .authorities("ROLE_ADMIN")
+            .build();
+
+    private final Employee employee = new Employee();
+
+    @BeforeEach
+    void setUp() {
+        employee.setUuid(UUID.randomUUID());
+        employee.setEmail("admin@local.com");
+
+        when(employeeRepository.findTokenVersionByEmail("admin@local.com"))
+                .thenAnswer(invocation -> Optional.of(new TokenVersion(employee.getUuid(),
+                        employee.getTokenVersion())));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication filter(JwtAuthenticationFilter filter, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Test
+    void statelessMode_shouldAuthenticateFromClaims_withoutLoadingUser() throws Exception {
+        // GIVEN
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, userDetailsService, tokenCache, true);
+        String token = jwtService.generateToken(userDetails);
+
+        // WHEN
+        Authentication authentication = filter(filter, token);
+
+        // THEN
+        assertNotNull(authentication);
+        assertEquals("admin@local.com", authentication.getName());
+        assertEquals("ROLE_ADMIN", authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .findFirst()
+                .orElseThrow());
+
+        verify(userDetailsService, never()).loadUserByUsername(any());
+    }
+
+    @Test
+    void statelessMode_shouldRejectToken_whenTokensWereRevoked() throws Exception {
+        // GIVEN
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, userDetailsService, tokenCache, true);
+        TokenRevocationService revocationService = new TokenRevocationService(tokenVersionRegistry, tokenCache);
+        String token = jwtService.generateToken(userDetails);
+
+        assertNotNull(filter(filter, token));
+
+        // WHEN
+        revocationService.revokeTokens(employee, "admin@local.com");
+
+        // THEN: los tokens emitidos después de revocar siguen valiendo
+        assertNull(filter(filter, token));
+        assertNotNull(filter(filter, jwtService.generateToken(userDetails)));
+    }
+
+    @Test
+    void defaultMode_shouldLoadUserOnlyOnce_whenTokenIsReused() throws Exception {
+        // GIVEN
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, userDetailsService, tokenCache, false);
+        String token = jwtService.generateToken(userDetails);
+
+        when(userDetailsService.loadUserByUsername("admin@local.com")).thenReturn(userDetails);
+
+        // WHEN
+        assertNotNull(filter(filter, token));
+        assertNotNull(filter(filter, token));
+
+        // THEN
+        verify(userDetailsService, times(1)).loadUserByUsername("admin@local.com");
+    }
+
+    @Test
+    void defaultMode_shouldRejectCachedToken_whenRevokedOnAnotherInstance() throws Exception {
+        // GIVEN: el token queda verificado en la caché de esta instancia
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, userDetailsService, tokenCache, false);
+        String token = jwtService.generateToken(userDetails);
+
+        when(userDetailsService.loadUserByUsername("admin@local.com")).thenReturn(userDetails);
+        assertNotNull(filter(filter, token));
+
+        // WHEN: otra instancia sube la versión en BD y aquí caduca la versión conocida, pero no la caché de tokens
+        employee.setTokenVersion(employee.getTokenVersion() + 1);
+        tokenVersionRegistry.evict("admin@local.com");
+
+        // THEN
+        assertNull(filter(filter, token));
+        verify(userDetailsService, times(1)).loadUserByUsername("admin@local.com");
+    }
+}
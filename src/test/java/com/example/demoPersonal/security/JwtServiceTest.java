@@ -1,20 +1,45 @@
 package com.example.demoPersonal.security;
 
+import com.example.demoPersonal.repository.EmployeeRepository;
+import com.example.demoPersonal.repository.projection.TokenVersion;
 import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class JwtServiceTest {
-    private final JwtService jwtService = new JwtService();
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final JwtService jwtService = new JwtService(
+            new TokenVersionRegistry(employeeRepository, 100, Duration.ZERO));
+
+    private final UUID employeeUuid = UUID.randomUUID();
 
     private final UserDetails userDetails = User.withUsername("test@gmail.com")
             .password("encoded-password")
             .authorities("ROLE_USER")
             .build();
 
+    @BeforeEach
+    void setUp() {
+        currentVersion(employeeUuid, 0);
+    }
+
+    private void currentVersion(UUID uuid, long version) {
+        when(employeeRepository.findTokenVersionByEmail("test@gmail.com"))
+                .thenReturn(Optional.of(new TokenVersion(uuid, version)));
+    }
+
     @Test
     void generateToken_shouldContainUsernameInSubject() {
         // WHEN
@@ -56,6 +81,58 @@ class JwtServiceTest {
         assertFalse(isValid);
     }
 
+    @Test
+    void verify_shouldReturnSubjectAuthoritiesAndExpiration() {
+        // GIVEN
+        String token = jwtService.generateToken(userDetails);
+
+        // WHEN
+        VerifiedToken verifiedToken = jwtService.verify(token);
+
+        // THEN
+        assertEquals("test@gmail.com", verifiedToken.subject());
+        assertEquals(List.of("ROLE_USER"), verifiedToken.authorities());
+        assertTrue(verifiedToken.expiresAt().isAfter(Instant.now()));
+        assertFalse(verifiedToken.isExpired());
+    }
+
+    @Test
+    void isTokenValid_shouldReturnFalse_whenTokenVersionWasRevoked() {
+        // GIVEN
+        String token = jwtService.generateToken(userDetails);
+
+        // WHEN
+        currentVersion(employeeUuid, 1);
+
+        // THEN
+        assertFalse(jwtService.isTokenValid(token, userDetails));
+        assertTrue(jwtService.isTokenValid(jwtService.generateToken(userDetails), userDetails));
+    }
+
+    @Test
+    void isTokenValid_shouldReturnFalse_whenEmailBelongsToAnotherEmployee() {
+        // GIVEN
+        String token = jwtService.generateToken(userDetails);
+
+        // WHEN: el empleado se dio de baja y otro se registró con el mismo email
+        currentVersion(UUID.randomUUID(), 0);
+
+        // THEN
+        assertFalse(jwtService.isTokenValid(token, userDetails));
+    }
+
+    @Test
+    void isTokenValid_shouldReturnFalse_whenUserNoLongerExists() {
+        // GIVEN
+        String token = jwtService.generateToken(userDetails);
+
+        // WHEN
+        when(employeeRepository.findTokenVersionByEmail("test@gmail.com")).thenReturn(Optional.empty());
+
+        // THEN
+        assertFalse(jwtService.isTokenValid(token, userDetails));
+    }
+
     @Test
     void extractUsername_shouldThrowException_fromInvalidToken() {
         // GIVEN
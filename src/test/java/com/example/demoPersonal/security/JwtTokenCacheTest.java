@@ -0,0 +1,72 @@
+package com.example.demoPersonal.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenCacheTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtTokenCache tokenCache = new JwtTokenCache(100, Duration.ofMinutes(5), meterRegistry);
+
+    private final UserDetails userDetails = User.withUsername("test@gmail.com")
+            .password("encoded-password")
+            .authorities("ROLE_USER")
+            .build();
+
+    @Test
+    void get_shouldReturnUserWithoutCredentials_whenTokenWasCached() {
+        // GIVEN
+        tokenCache.put("token", token(userDetails, Instant.now().plusSeconds(60)), userDetails);
+
+        // WHEN
+        Optional<JwtTokenCache.CachedToken> cached = tokenCache.get("token");
+
+        // THEN
+        assertTrue(cached.isPresent());
+        assertEquals("test@gmail.com", cached.get().userDetails().getUsername());
+        assertEquals("", cached.get().userDetails().getPassword());
+        assertEquals(7, cached.get().token().version());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void get_shouldReturnEmpty_whenTokenIsExpired() {
+        // GIVEN
+        tokenCache.put("token", token(userDetails, Instant.now().minusSeconds(1)), userDetails);
+
+        // WHEN - THEN
+        assertTrue(tokenCache.get("token").isEmpty());
+    }
+
+    @Test
+    void evictUser_shouldRemoveOnlyTokensOfThatUser() {
+        // GIVEN
+        UserDetails otherUser = User.withUsername("other@gmail.com")
+                .password("encoded-password")
+                .authorities("ROLE_USER")
+                .build();
+
+        tokenCache.put("token", token(userDetails, Instant.now().plusSeconds(60)), userDetails);
+        tokenCache.put("other-token", token(otherUser, Instant.now().plusSeconds(60)), otherUser);
+
+        // WHEN
+        tokenCache.evictUser("test@gmail.com");
+
+        // THEN
+        assertTrue(tokenCache.get("token").isEmpty());
+        assertTrue(tokenCache.get("other-token").isPresent());
+    }
+
+    private static VerifiedToken token(UserDetails user, Instant expiresAt) {
+        return new VerifiedToken(user.getUsername(), List.of("ROLE_USER"), expiresAt, UUID.randomUUID(), 7);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demoPersonal.security;
+
+import com.example.demoPersonal.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingExecutorTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashingExecutor executor =
+            new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5), meterRegistry);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void execute_shouldReturnResultOfTask() {
+        assertEquals("hash", executor.execute(() -> "hash"));
+    }
+
+    @Test
+    void execute_shouldRethrowRuntimeExceptionOfTask() {
+        assertThrows(BadCredentialsException.class, () -> executor.execute(() -> {
+            throw new BadCredentialsException("Bad credentials");
+        }));
+    }
+
+    @Test
+    void execute_shouldRejectImmediately_whenPoolAndQueueAreFull() throws Exception {
+        // GIVEN
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<Object> running = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            started.countDown();
+            release.await();
+            return null;
+        }));
+        started.await();
+
+        CompletableFuture<Object> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> null));
+        while (meterRegistry.get("executor.queued").tag("name", "password-hashing").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // WHEN - THEN
+        assertThrows(ServiceBusyException.class, () -> executor.execute(() -> null));
+        assertEquals(1.0, meterRegistry.get("auth.password.hashing.rejected").counter().count());
+
+        release.countDown();
+        running.get();
+        queued.get();
+    }
+}
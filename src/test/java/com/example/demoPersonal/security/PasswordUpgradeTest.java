@@ -0,0 +1,90 @@
+package com.example.demoPersonal.security;
+
+import com.example.demoPersonal.dto.login.LoginRequestDTO;
+import com.example.demoPersonal.entity.Employee;
+import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.repository.EmployeeRepository;
+import com.example.demoPersonal.service.AuthService;
+import com.example.demoPersonal.service.EmployeeService;
+import com.example.demoPersonal.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Con el AuthenticationManager real: el DaoAuthenticationProvider llama a updatePassword tras un login correcto
+@SpringBootTest
+@ActiveProfiles("test")
+class PasswordUpgradeTest {
+    private static final String EMAIL = "legacy.hash@test.com";
+    private static final String PASSWORD = "legacy-password";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Value("${security.password.bcrypt-strength}")
+    private int strength;
+
+    private UUID employeeUuid;
+
+    @AfterEach
+    void tearDown() {
+        employeeService.removeEmployee(employeeUuid);
+    }
+
+    @Test
+    void login_shouldUpgradeUnprefixedHash() {
+        // GIVEN: hash sin prefijo {bcrypt}, como el del seed
+        seed(new BCryptPasswordEncoder(10).encode(PASSWORD));
+
+        // WHEN - THEN
+        assertUpgradedOnLogin();
+    }
+
+    @Test
+    void login_shouldUpgradeHashBelowTunedStrength() {
+        // GIVEN
+        seed("{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        // WHEN - THEN
+        assertUpgradedOnLogin();
+    }
+
+    private void seed(String hash) {
+        Employee employee = TestData.employee("Legacy hash", EMAIL, Position.DEVELOPER);
+        employee.setPassword(hash);
+        employeeUuid = employeeRepository.save(employee).getUuid();
+    }
+
+    private void assertUpgradedOnLogin() {
+        // WHEN
+        authService.login(new LoginRequestDTO(EMAIL, PASSWORD));
+
+        // THEN: prefijo y coste actuales
+        String upgraded = storedHash();
+        assertTrue(upgraded.startsWith("{bcrypt}$2a$%02d$".formatted(strength)), upgraded);
+
+        // THEN: el nuevo hash sigue valiendo y ya no se vuelve a actualizar
+        assertNotNull(authService.login(new LoginRequestDTO(EMAIL, PASSWORD)).token());
+        assertEquals(upgraded, storedHash());
+    }
+
+    private String storedHash() {
+        return employeeRepository.findByEmail(EMAIL).orElseThrow().getPassword();
+    }
+}
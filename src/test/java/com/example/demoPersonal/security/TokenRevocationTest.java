@@ -0,0 +1,79 @@
+package com.example.demoPersonal.security;
+
+import com.example.demoPersonal.dto.employee.EmployeeRequestDTO;
+import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.repository.EmployeeRepository;
+import com.example.demoPersonal.service.EmployeeService;
+import com.example.demoPersonal.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Sin @Transactional: la versión se confirma junto al cambio de email
+@SpringBootTest
+@ActiveProfiles("test")
+class TokenRevocationTest {
+    private static final String EMAIL = "revoked@test.com";
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private final UserDetails userDetails = User.withUsername(EMAIL)
+            .password("")
+            .authorities("ROLE_USER")
+            .build();
+
+    private UUID employeeUuid;
+
+    @BeforeEach
+    void setUp() {
+        employeeUuid = employeeRepository.save(TestData.employee("Revoked", EMAIL, Position.DEVELOPER)).getUuid();
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeService.removeEmployee(employeeUuid);
+    }
+
+    @Test
+    void revokedTokens_shouldStayRevokedAfterRestart() {
+        // GIVEN
+        String revoked = jwtService.generateToken(userDetails);
+
+        // WHEN: cambia el email y vuelve al original; los tokens anteriores quedan revocados
+        rename("renamed@test.com");
+        rename(EMAIL);
+        String issuedAfter = jwtService.generateToken(userDetails);
+
+        // THEN: una instancia recién arrancada, sin nada en memoria, lee la versión de la BD
+        JwtService restarted = new JwtService(new TokenVersionRegistry(employeeRepository, 100, Duration.ofMinutes(5)));
+
+        assertEquals(2, employeeRepository.findTokenVersionByEmail(EMAIL).orElseThrow().version());
+        assertFalse(restarted.isTokenValid(revoked, userDetails));
+        assertTrue(restarted.isTokenValid(issuedAfter, userDetails));
+        assertFalse(jwtService.isTokenValid(revoked, userDetails));
+    }
+
+    private void rename(String email) {
+        employeeService.updateEmployee(employeeUuid,
+                new EmployeeRequestDTO("Revoked", email, Position.DEVELOPER, "password"));
+    }
+}
@@ -8,6 +8,8 @@ import com.example.demoPersonal.entity.enums.Position;
 import com.example.demoPersonal.entity.enums.Role;
 import com.example.demoPersonal.repository.EmployeeRepository;
 import com.example.demoPersonal.security.JwtService;
+import com.example.demoPersonal.security.PasswordHashingExecutor;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -20,8 +22,11 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,10 +42,18 @@ class AuthServiceTest {
     private UserDetailsService userDetailsService;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
 
     @InjectMocks
     private AuthService authService;
 
+    @BeforeEach
+    void runHashingInline() throws Exception {
+        when(passwordHashingExecutor.execute(any())).thenAnswer(invocation ->
+                invocation.<Callable<?>>getArgument(0).call());
+    }
+
     @Test
     void register_shouldReturnToken() {
         // GIVEN
@@ -80,6 +93,7 @@ class AuthServiceTest {
         verify(employeeRepository).existsByEmail(dto.email());
         verify(passwordEncoder).encode(dto.password());
         verify(employeeRepository).save(any(Employee.class));
+        verify(authenticationManager, never()).authenticate(any());
         verify(userDetailsService).loadUserByUsername(registered.getEmail());
         verify(jwtService).generateToken(any(UserDetails.class));
     }
@@ -0,0 +1,160 @@
+package com.example.demoPersonal.service;
+
+import com.example.demoPersonal.config.DtoCacheEndpoint;
+import com.example.demoPersonal.dto.employee.EmployeeRequestDTO;
+import com.example.demoPersonal.dto.employee.EmployeeResponseDTO;
+import com.example.demoPersonal.dto.project.ProjectRequestDTO;
+import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.exception.EmployeeNotFoundException;
+import com.example.demoPersonal.support.StatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Sin @Transactional: las invalidaciones se aplican tras el commit
+@SpringBootTest
+@ActiveProfiles("test")
+class DtoCacheTest {
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DtoCacheEndpoint dtoCacheEndpoint;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private StatementCounter counter;
+    private UUID projectUuid;
+    private UUID employeeUuid;
+
+    @BeforeEach
+    void setUp() {
+        counter = new StatementCounter(entityManagerFactory);
+        dtoCacheEndpoint.flushAll();
+
+        projectUuid = projectService.createProject(new ProjectRequestDTO("Cached DTO project")).uuid();
+        employeeUuid = employeeService.createEmployee(new EmployeeRequestDTO(
+                "Cached DTO employee", "cached.dto@test.com", Position.BACKEND_DEVELOPER, "password")).uuid();
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeService.removeEmployee(employeeUuid);
+        projectService.removeProject(projectUuid);
+    }
+
+    @Test
+    void getProjectByUuid_shouldBeCachedUntilUpdated() {
+        // GIVEN
+        projectService.getProjectByUuid(projectUuid);
+
+        // WHEN / THEN
+        counter.expectStatements(0, () -> projectService.getProjectByUuid(projectUuid));
+
+        // WHEN
+        projectService.updateProject(projectUuid, new ProjectRequestDTO("Renamed DTO project"));
+
+        // THEN
+        assertEquals("Renamed DTO project", projectService.getProjectByUuid(projectUuid).name());
+    }
+
+    @Test
+    void employeeCaches_shouldBeInvalidatedByProjectMembershipAndRename() {
+        // GIVEN
+        employeeService.getEmployeeByUuid(employeeUuid);
+        employeeService.getEmployeeByEmail("cached.dto@test.com");
+        counter.expectStatements(0, () -> employeeService.getCurrentEmployee("CACHED.DTO@test.com"));
+
+        // WHEN
+        transactionTemplate.executeWithoutResult(status -> employeeService.assignProject(employeeUuid, projectUuid));
+
+        // THEN
+        assertEquals(1, employeeService.getEmployeeByUuid(employeeUuid).projects().size());
+        assertEquals(1, employeeService.getEmployeeByEmail("cached.dto@test.com").projects().size());
+
+        // WHEN: el DTO del empleado incluye el nombre del proyecto
+        projectService.updateProject(projectUuid, new ProjectRequestDTO("Renamed DTO project"));
+
+        // THEN
+        EmployeeResponseDTO employee = employeeService.getEmployeeByUuid(employeeUuid);
+        assertEquals("Renamed DTO project", employee.projects().get(0).name());
+        assertEquals("Renamed DTO project",
+                employeeService.getCurrentEmployee("cached.dto@test.com").projects().get(0).name());
+
+        transactionTemplate.executeWithoutResult(status -> employeeService.unassignProject(employeeUuid, projectUuid));
+        assertTrue(employeeService.getEmployeeByUuid(employeeUuid).projects().isEmpty());
+    }
+
+    @Test
+    void updateEmployee_shouldEvictThePreviousEmail() {
+        // GIVEN
+        employeeService.getEmployeeByEmail("cached.dto@test.com");
+
+        // WHEN
+        employeeService.updateEmployee(employeeUuid, new EmployeeRequestDTO(
+                "Cached DTO employee", "moved.dto@test.com", Position.QA_ENGINEER, "password"));
+
+        // THEN
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeByEmail("cached.dto@test.com"));
+        assertEquals(Position.QA_ENGINEER, employeeService.getEmployeeByUuid(employeeUuid).position());
+    }
+
+    @Test
+    void endpoint_shouldInspectAndFlushEntries() {
+        // GIVEN
+        projectService.getProjectByUuid(projectUuid);
+        projectService.getProjectByUuid(projectUuid);
+
+        // WHEN
+        DtoCacheEndpoint.CacheEntries entries = dtoCacheEndpoint.entries(DtoCaches.PROJECTS);
+        DtoCacheEndpoint.CacheSummary summary = dtoCacheEndpoint.caches().get(DtoCaches.PROJECTS);
+
+        // THEN
+        assertTrue(entries.entries().containsKey(projectUuid.toString()));
+        assertTrue(summary.hits() >= 1);
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", DtoCaches.PROJECTS).functionCounter());
+
+        // WHEN
+        dtoCacheEndpoint.flush(DtoCaches.PROJECTS);
+
+        // THEN
+        assertTrue(dtoCacheEndpoint.entries(DtoCaches.PROJECTS).entries().isEmpty());
+    }
+
+    @Test
+    void cacheMetrics_shouldShareTagKeysSoPrometheusKeepsThemAll() {
+        // WHEN
+        Set<Set<String>> tagKeys = meterRegistry.find("cache.gets").meters().stream()
+                .map(meter -> meter.getId().getTags().stream().map(Tag::getKey).collect(Collectors.toSet()))
+                .collect(Collectors.toSet());
+
+        // THEN: cachés de DTOs, de segundo nivel y de JWT
+        assertEquals(Set.of(Set.of("cache", "name", "cache.manager", "result")), tagKeys);
+    }
+}
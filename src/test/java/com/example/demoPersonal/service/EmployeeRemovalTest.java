@@ -0,0 +1,121 @@
+package com.example.demoPersonal.service;
+
+import com.example.demoPersonal.entity.Employee;
+import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.exception.InvalidReassignmentException;
+import com.example.demoPersonal.repository.EmployeeRepository;
+import com.example.demoPersonal.repository.TaskRepository;
+import com.example.demoPersonal.support.StatementCounter;
+import com.example.demoPersonal.support.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Sin @Transactional: el UPDATE masivo y el borrado se confirman como en producción
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeRemovalTest {
+    private static final int TASKS = 200;
+    private static final int PROJECTS = 3;
+    private static final String TASKS_SQL = "select count(*) from tasks where description like 'Removal task%' and ";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private TestData testData;
+    private final List<UUID> projectUuids = new ArrayList<>();
+    private UUID employeeUuid;
+    private UUID targetUuid;
+
+    @BeforeEach
+    void setUp() {
+        testData = new TestData(context);
+
+        for (int i = 0; i < PROJECTS; i++) {
+            projectUuids.add(testData.createProject("Removal project " + i));
+        }
+
+        employeeUuid = testData.saveEmployee("leaving@test.com", "leaving@test.com", Position.DEVELOPER);
+        targetUuid = testData.saveEmployee("staying@test.com", "staying@test.com", Position.DEVELOPER);
+        projectUuids.forEach(projectUuid -> employeeService.assignProject(employeeUuid, projectUuid));
+
+        Employee employee = employeeRepository.findByUuid(employeeUuid).orElseThrow();
+        testData.saveTasks(projectUuids.get(0), "Removal task", TASKS, (task, i) -> task.setEmployee(employee));
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.cleanUp();
+    }
+
+    @Test
+    void removeEmployee_shouldUnassignTasksWithOneStatement() {
+        // GIVEN
+        StatementCounter counter = new StatementCounter(entityManagerFactory);
+
+        // WHEN
+        long statements = counter.count(() -> employeeService.removeEmployee(employeeUuid));
+
+        // THEN: ni las tareas ni los proyectos se cargan; las tareas siguen ahí, sin empleado
+        assertTrue(statements <= 5, "Expected a constant number of statements but was " + statements);
+        assertFalse(employeeRepository.findByUuid(employeeUuid).isPresent());
+        assertEquals(TASKS, count(TASKS_SQL + "employee_id is null"));
+        assertEquals(TASKS, count(TASKS_SQL + "version = 1"));
+        assertEquals(0, count("""
+                select count(*) from employee_projects ep left join employees e on e.id = ep.employee_id
+                where e.id is null"""));
+    }
+
+    @Test
+    void removeEmployee_shouldMoveTasksToTheReassignmentTarget() {
+        // WHEN
+        employeeService.removeEmployee(employeeUuid, targetUuid);
+
+        // THEN
+        assertEquals(TASKS, taskRepository.findVersionByEmployeeUuid(targetUuid).count());
+        assertEquals(0, count(TASKS_SQL + "employee_id is null"));
+    }
+
+    @Test
+    void removeEmployee_shouldRejectReassignmentToItself() {
+        // WHEN - THEN
+        assertThrows(InvalidReassignmentException.class,
+                () -> employeeService.removeEmployee(employeeUuid, employeeUuid));
+
+        assertEquals(TASKS, taskRepository.findVersionByEmployeeUuid(employeeUuid).count());
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
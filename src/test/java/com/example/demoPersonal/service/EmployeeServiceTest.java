@@ -14,6 +14,8 @@ import com.example.demoPersonal.mapper.project.ProjectMapper;
 import com.example.demoPersonal.repository.EmployeeRepository;
 import com.example.demoPersonal.repository.ProjectRepository;
 import com.example.demoPersonal.repository.TaskRepository;
+import com.example.demoPersonal.repository.projection.EmployeeProjectRow;
+import com.example.demoPersonal.security.TokenRevocationService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -44,6 +46,10 @@ class EmployeeServiceTest {
     private ProjectMapper projectMapper;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+    @Mock
+    private DtoCaches dtoCaches;
 
     @InjectMocks
     private EmployeeService employeeService;
@@ -75,17 +81,26 @@ class EmployeeServiceTest {
         // GIVEN
        Employee employee = init();
 
-        when(employeeRepository.findByUuid(employee.getUuid())).thenReturn(Optional.of(employee));
+        List<EmployeeProjectRow> rows = List.of(new EmployeeProjectRow(
+                employee.getUuid(),
+                employee.getEmail(),
+                employee.getName(),
+                employee.getPosition(),
+                null,
+                null
+        ));
+
+        when(employeeRepository.findRowsByUuid(employee.getUuid())).thenReturn(rows);
 
         EmployeeResponseDTO mappedToDto = new EmployeeResponseDTO(
                 employee.getUuid(),
                 employee.getEmail(),
                 employee.getName(),
                 employee.getPosition(),
-                employee.getProjects().stream().map(projectMapper::toDTO).toList()
+                List.of()
         );
 
-        when(employeeMapper.toDTO(employee)).thenReturn(mappedToDto);
+        when(employeeMapper.toDTOs(rows)).thenReturn(List.of(mappedToDto));
 
         // WHEN
         EmployeeResponseDTO result = employeeService.getEmployeeByUuid(employee.getUuid());
@@ -96,8 +111,8 @@ class EmployeeServiceTest {
         assertEquals("Test", result.name());
         assertEquals("test@gmail.com", result.email());
 
-        verify(employeeRepository).findByUuid(employee.getUuid());
-        verify(employeeMapper).toDTO(employee);
+        verify(employeeRepository).findRowsByUuid(employee.getUuid());
+        verify(employeeRepository, never()).findByUuid(any());
     }
 
     @Test
@@ -105,12 +120,13 @@ class EmployeeServiceTest {
         // GIVEN
         UUID employeeUuid = UUID.randomUUID();
 
-        when(employeeRepository.findByUuid(employeeUuid)).thenReturn(Optional.empty());
+        when(employeeRepository.findRowsByUuid(employeeUuid)).thenReturn(List.of());
+        when(employeeMapper.toDTOs(List.of())).thenReturn(List.of());
 
         // WHEN - THEN
         assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeByUuid(employeeUuid));
 
-        verify(employeeRepository).findByUuid(employeeUuid);
+        verify(employeeRepository).findRowsByUuid(employeeUuid);
         verify(employeeMapper, never()).toDTO(any());
     }
 
@@ -264,6 +280,29 @@ class EmployeeServiceTest {
         verify(employeeMapper).toDTO(updated);
     }
 
+    @Test
+    void updateEmployee_shouldRevokeTokens_whenEmailChanges() {
+        // GIVEN
+        Employee employee = init();
+
+        EmployeeRequestDTO dto = new EmployeeRequestDTO(
+                "Test",
+                "new@gmail.com",
+                Position.DEVELOPER,
+                "abc123."
+        );
+
+        when(employeeRepository.findByUuid(employee.getUuid())).thenReturn(Optional.of(employee));
+        when(employeeRepository.existsByEmail("new@gmail.com")).thenReturn(false);
+        when(employeeRepository.save(employee)).thenReturn(employee);
+
+        // WHEN
+        employeeService.updateEmployee(employee.getUuid(), dto);
+
+        // THEN
+        verify(tokenRevocationService).revokeTokens(employee, "test@gmail.com");
+    }
+
     @Test
     void updateEmployee_shouldReturnException_employeeNotExists() {
         // GIVEN
@@ -323,44 +362,73 @@ class EmployeeServiceTest {
 
         when(employeeRepository.findByUuid(employee.getUuid())).thenReturn(Optional.of(employee));
         when(projectRepository.findByUuid(projectUuid)).thenReturn(Optional.of(project));
+        when(employeeRepository.addProjectMembers(project, List.of(employee))).thenReturn(1);
 
-        Employee updated = new Employee();
-        updated.setUuid(employee.getUuid());
-        updated.setName(employee.getName());
-        updated.setEmail(employee.getEmail());
-        updated.setPosition(employee.getPosition());
-        updated.addProject(project);
-
-        List<ProjectResponseDTO> projects = updated.getProjects().stream().map(projectMapper::toDTO).toList();
+        List<EmployeeProjectRow> rows = List.of(new EmployeeProjectRow(
+                employee.getUuid(),
+                employee.getEmail(),
+                employee.getName(),
+                employee.getPosition(),
+                projectUuid,
+                "ProjectTest"
+        ));
 
-
-        when(employeeRepository.save(employee)).thenReturn(updated);
+        when(employeeRepository.findRowsByUuid(employee.getUuid())).thenReturn(rows);
 
         EmployeeResponseDTO mappedToDTO = new EmployeeResponseDTO(
-                updated.getUuid(),
-                updated.getEmail(),
-                updated.getName(),
-                updated.getPosition(),
-                updated.getProjects().stream().map(projectMapper::toDTO).toList()
+                employee.getUuid(),
+                employee.getEmail(),
+                employee.getName(),
+                employee.getPosition(),
+                List.of(new ProjectResponseDTO(projectUuid, "ProjectTest"))
         );
 
-        when(employeeMapper.toDTO(updated)).thenReturn(mappedToDTO);
+        when(employeeMapper.toDTOs(rows)).thenReturn(List.of(mappedToDTO));
 
         // WHEN
         EmployeeResponseDTO result = employeeService.assignProject(employee.getUuid(), projectUuid);
 
         // THEN
         assertNotNull(result);
-        assertEquals(updated.getUuid(), result.uuid());
+        assertEquals(employee.getUuid(), result.uuid());
         assertEquals("Test", result.name());
         assertEquals("test@gmail.com", result.email());
-        assertEquals(updated.getPosition(), result.position());
-        assertEquals(projects, result.projects());
+        assertEquals(employee.getPosition(), result.position());
+        assertEquals(mappedToDTO.projects(), result.projects());
 
-        verify(employeeRepository).findByUuid(employee.getUuid());
-        verify(projectRepository).findByUuid(projectUuid);
-        verify(employeeRepository).save(employee);
-        verify(employeeMapper).toDTO(updated);
+        verify(employeeRepository).addProjectMembers(project, List.of(employee));
+        verify(dtoCaches).evictEmployee(employee.getUuid(), employee.getEmail());
+        verify(employeeRepository, never()).save(any());
+    }
+
+    @Test
+    void assignProject_shouldNotEvict_whenAlreadyMember() {
+        // GIVEN
+        Employee employee = init();
+
+        UUID projectUuid = UUID.randomUUID();
+
+        Project project = new Project();
+        project.setUuid(projectUuid);
+        project.setName("ProjectTest");
+
+        when(employeeRepository.findByUuid(employee.getUuid())).thenReturn(Optional.of(employee));
+        when(projectRepository.findByUuid(projectUuid)).thenReturn(Optional.of(project));
+        when(employeeRepository.addProjectMembers(project, List.of(employee))).thenReturn(0);
+
+        List<EmployeeProjectRow> rows = List.of(new EmployeeProjectRow(
+                employee.getUuid(), employee.getEmail(), employee.getName(), employee.getPosition(), null, null));
+
+        when(employeeRepository.findRowsByUuid(employee.getUuid())).thenReturn(rows);
+        when(employeeMapper.toDTOs(rows)).thenReturn(List.of(new EmployeeResponseDTO(
+                employee.getUuid(), employee.getEmail(), employee.getName(), employee.getPosition(), List.of())));
+
+        // WHEN
+        EmployeeResponseDTO result = employeeService.assignProject(employee.getUuid(), projectUuid);
+
+        // THEN: la operación es idempotente
+        assertEquals(employee.getUuid(), result.uuid());
+        verify(dtoCaches, never()).evictEmployee(any(), any());
     }
 
     @Test
@@ -411,28 +479,28 @@ class EmployeeServiceTest {
 
         when(employeeRepository.findByUuid(employee.getUuid())).thenReturn(Optional.of(employee));
         when(projectRepository.findByUuid(projectUuid)).thenReturn(Optional.of(project));
+        when(employeeRepository.removeProjectMembers(project, List.of(employee))).thenReturn(1);
 
-        Employee updated = new Employee();
-        updated.setUuid(employee.getUuid());
-        updated.setName(employee.getName());
-        updated.setEmail(employee.getEmail());
-        updated.setPosition(employee.getPosition());
-        updated.removeProject(project);
-
-        List<ProjectResponseDTO> projects = updated.getProjects().stream().map(projectMapper::toDTO).toList();
-
+        List<EmployeeProjectRow> rows = List.of(new EmployeeProjectRow(
+                employee.getUuid(),
+                employee.getEmail(),
+                employee.getName(),
+                employee.getPosition(),
+                null,
+                null
+        ));
 
-        when(employeeRepository.save(employee)).thenReturn(updated);
+        when(employeeRepository.findRowsByUuid(employee.getUuid())).thenReturn(rows);
 
         EmployeeResponseDTO mappedToDTO = new EmployeeResponseDTO(
-                updated.getUuid(),
-                updated.getEmail(),
-                updated.getName(),
-                updated.getPosition(),
-                updated.getProjects().stream().map(projectMapper::toDTO).toList()
+                employee.getUuid(),
+                employee.getEmail(),
+                employee.getName(),
+                employee.getPosition(),
+                List.of()
         );
 
-        when(employeeMapper.toDTO(updated)).thenReturn(mappedToDTO);
+        when(employeeMapper.toDTOs(rows)).thenReturn(List.of(mappedToDTO));
 
         // WHEN
         EmployeeResponseDTO result = employeeService.unassignProject(employee.getUuid(), projectUuid);
@@ -442,13 +510,42 @@ class EmployeeServiceTest {
         assertEquals(employee.getUuid(), result.uuid());
         assertEquals("Test", result.name());
         assertEquals("test@gmail.com", result.email());
-        assertEquals(updated.getPosition(), result.position());
-        assertEquals(projects, result.projects());
+        assertEquals(employee.getPosition(), result.position());
+        assertEquals(mappedToDTO.projects(), result.projects());
 
-        verify(employeeRepository).findByUuid(employee.getUuid());
-        verify(projectRepository).findByUuid(projectUuid);
-        verify(employeeRepository).save(employee);
-        verify(employeeMapper).toDTO(updated);
+        verify(employeeRepository).removeProjectMembers(project, List.of(employee));
+        verify(dtoCaches).evictEmployee(employee.getUuid(), employee.getEmail());
+        verify(employeeRepository, never()).save(any());
+    }
+
+    @Test
+    void unassignProject_shouldNotEvict_whenNotMember() {
+        // GIVEN
+        Employee employee = init();
+
+        UUID projectUuid = UUID.randomUUID();
+
+        Project project = new Project();
+        project.setUuid(projectUuid);
+        project.setName("ProjectTest");
+
+        when(employeeRepository.findByUuid(employee.getUuid())).thenReturn(Optional.of(employee));
+        when(projectRepository.findByUuid(projectUuid)).thenReturn(Optional.of(project));
+        when(employeeRepository.removeProjectMembers(project, List.of(employee))).thenReturn(0);
+
+        List<EmployeeProjectRow> rows = List.of(new EmployeeProjectRow(
+                employee.getUuid(), employee.getEmail(), employee.getName(), employee.getPosition(), null, null));
+
+        when(employeeRepository.findRowsByUuid(employee.getUuid())).thenReturn(rows);
+        when(employeeMapper.toDTOs(rows)).thenReturn(List.of(new EmployeeResponseDTO(
+                employee.getUuid(), employee.getEmail(), employee.getName(), employee.getPosition(), List.of())));
+
+        // WHEN
+        EmployeeResponseDTO result = employeeService.unassignProject(employee.getUuid(), projectUuid);
+
+        // THEN: la operación es idempotente
+        assertEquals(employee.getUuid(), result.uuid());
+        verify(dtoCaches, never()).evictEmployee(any(), any());
     }
 
     @Test
@@ -0,0 +1,128 @@
+package com.example.demoPersonal.service;
+
+import com.example.demoPersonal.dto.task.TaskRequestDTO;
+import com.example.demoPersonal.entity.Task;
+import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.entity.enums.Status;
+import com.example.demoPersonal.repository.TaskRepository;
+import com.example.demoPersonal.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Sin @Transactional: cada hilo necesita sus propias transacciones y sus commits
+@SpringBootTest
+@ActiveProfiles("test")
+class OptimisticLockingTest {
+    private static final int THREADS = 64;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private TestData testData;
+    private UUID projectUuid;
+    private UUID taskUuid;
+    private final List<UUID> employeeUuids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        testData = new TestData(context);
+        projectUuid = testData.createProject("Concurrent project");
+        taskUuid = testData.saveTask(projectUuid, "Original description").getUuid();
+
+        for (int i = 0; i < THREADS / 2; i++) {
+            employeeUuids.add(testData.saveEmployee("Concurrent employee " + i, "concurrent" + i + "@test.com",
+                    Position.BACKEND_DEVELOPER));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.cleanUp();
+    }
+
+    @Test
+    void assignTask_shouldNotLoseConcurrentUpdates() throws Exception {
+        // GIVEN: la mitad de los hilos asigna la tarea y la otra mitad reescribe su descripción.
+        // Sin @Version, un updateTask que leyó la tarea sin empleado la desasignaría al guardar la fila entera.
+        long initialVersion = taskRepository.findByUuid(taskUuid).orElseThrow().getVersion();
+
+        AtomicInteger assigned = new AtomicInteger();
+        AtomicInteger updated = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Throwable> unexpected = new ArrayList<>();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        for (int i = 0; i < THREADS; i++) {
+            int thread = i;
+
+            executor.submit(() -> {
+                try {
+                    start.await();
+
+                    if (thread % 2 == 0) {
+                        taskService.assignTask(taskUuid, employeeUuids.get(thread / 2));
+                        assigned.incrementAndGet();
+                    } else {
+                        taskService.updateTask(taskUuid,
+                                new TaskRequestDTO("Concurrent update " + thread, Status.IN_PROGRESS, projectUuid));
+                        updated.incrementAndGet();
+                    }
+                } catch (OptimisticLockingFailureException ex) {
+                    conflicts.incrementAndGet();
+                } catch (Throwable ex) {
+                    synchronized (unexpected) {
+                        unexpected.add(ex);
+                    }
+                }
+            });
+        }
+
+        // WHEN
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+
+        // THEN: cada escritura confirmada subió la versión exactamente una vez; ninguna se sobrescribió a ciegas
+        assertTrue(unexpected.isEmpty(), () -> "Unexpected failures: " + unexpected);
+        assertEquals(THREADS, assigned.get() + updated.get() + conflicts.get());
+
+        Task task = taskRepository.findByUuid(taskUuid).orElseThrow();
+
+        assertEquals(initialVersion + assigned.get() + updated.get(), task.getVersion());
+
+        if (assigned.get() > 0) {
+            assertNotNull(task.getEmployee());
+        }
+        if (updated.get() > 0) {
+            assertTrue(task.getDescription().startsWith("Concurrent update"));
+            assertEquals(Status.IN_PROGRESS, task.getStatus());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.demoPersonal.service;
+
+import com.example.demoPersonal.dto.project.ProjectCloneRequestDTO;
+import com.example.demoPersonal.dto.project.ProjectResponseDTO;
+import com.example.demoPersonal.entity.Employee;
+import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.entity.enums.Status;
+import com.example.demoPersonal.exception.ProjectNotFoundException;
+import com.example.demoPersonal.repository.EmployeeRepository;
+import com.example.demoPersonal.repository.TaskRepository;
+import com.example.demoPersonal.support.StatementCounter;
+import com.example.demoPersonal.support.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Sin @Transactional: el índice de búsqueda y la caché de DTOs se actualizan tras el commit
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectCloneTest {
+    private static final int TASKS = 3_000;
+    private static final String TASKS_SQL =
+            "select count(*) from tasks t join projects p on p.id = t.project_id where p.uuid = ? and ";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private TestData testData;
+    private UUID sourceUuid;
+    private UUID employeeUuid;
+
+    @BeforeEach
+    void setUp() {
+        testData = new TestData(context);
+        sourceUuid = testData.createProject("Template project");
+        employeeUuid = testData.saveEmployee("Template member", "template.member@test.com", Position.DEVELOPER);
+        employeeService.assignProject(employeeUuid, sourceUuid);
+
+        Employee assignee = employeeRepository.findByUuid(employeeUuid).orElseThrow();
+        testData.saveTasks(sourceUuid, "Wombat task", TASKS, (task, i) -> {
+            task.setStatus(i % 2 == 0 ? Status.DONE : Status.IN_PROGRESS);
+            task.setEmployee(assignee);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.cleanUp();
+    }
+
+    @Test
+    void cloneProject_shouldCopyTasksWithAFewStatements() {
+        // GIVEN
+        StatementCounter counter = new StatementCounter(entityManagerFactory);
+
+        // WHEN
+        ProjectResponseDTO[] clone = new ProjectResponseDTO[1];
+        long statements = counter.count(() -> clone[0] = projectService.cloneProject(sourceUuid,
+                new ProjectCloneRequestDTO("Cloned project", false)));
+        testData.trackProject(clone[0].uuid());
+
+        // THEN: las tareas copiadas no pasan por la aplicación, salvo para el índice en memoria
+        assertTrue(statements <= 5, "Expected a constant number of statements but was " + statements);
+        assertEquals("Cloned project", clone[0].name());
+        assertEquals(TASKS, count(TASKS_SQL + "t.status = 'TODO' and t.employee_id is null and t.version = 0",
+                clone[0].uuid()));
+        assertEquals(0, count("""
+                select count(*) from tasks c join tasks s on s.uuid = c.uuid and s.id <> c.id"""));
+        assertEquals(0, count("""
+                select count(*) from employee_projects ep join projects p on p.id = ep.project_id
+                where p.uuid = ?""", clone[0].uuid()));
+        // Un bloque de la secuencia por cada 50 tareas: ids consecutivos, no uno cada 50
+        assertEquals(TASKS, count("""
+                select max(t.id) - min(t.id) + 1 from tasks t join projects p on p.id = t.project_id
+                where p.uuid = ?""", clone[0].uuid()));
+        assertEquals(2, searchService.search("wombat " + (TASKS - 1), 10).size());
+        assertEquals(TASKS, taskRepository.findVersionByProjectUuid(clone[0].uuid()).count());
+    }
+
+    @Test
+    void cloneProject_shouldCopyMembership_whenRequested() {
+        // GIVEN: el DTO del empleado, con un proyecto, queda en caché
+        assertEquals(1, employeeService.getEmployeeByUuid(employeeUuid).projects().size());
+
+        // WHEN
+        testData.trackProject(projectService.cloneProject(sourceUuid,
+                new ProjectCloneRequestDTO("Cloned with members", true)).uuid());
+
+        // THEN
+        assertEquals(2, employeeService.getEmployeeByUuid(employeeUuid).projects().size());
+        assertEquals(TASKS, count(TASKS_SQL + "t.status <> 'TODO'", sourceUuid));
+    }
+
+    @Test
+    void cloneProject_shouldThrowException_whenProjectNotExists() {
+        // WHEN - THEN
+        assertThrows(ProjectNotFoundException.class, () -> projectService.cloneProject(UUID.randomUUID(),
+                new ProjectCloneRequestDTO("Orphan clone", true)));
+
+        assertEquals(0, count("select count(*) from projects where name = 'Orphan clone'"));
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demoPersonal.service;
+
+import com.example.demoPersonal.dto.project.ProjectDeletionJobDTO;
+import com.example.demoPersonal.dto.project.ProjectDeletionStatus;
+import com.example.demoPersonal.repository.ProjectRepository;
+import com.example.demoPersonal.repository.TaskRepository;
+import com.example.demoPersonal.repository.projection.CollectionVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectDeletionJobsTest {
+    @Mock
+    private ProjectService projectService;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private TaskRepository taskRepository;
+
+    private ProjectDeletionJobs projectDeletionJobs;
+
+    @BeforeEach
+    void setUp() {
+        projectDeletionJobs = new ProjectDeletionJobs(projectService, projectRepository, taskRepository, 100, 16,
+                Duration.ofHours(1), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectDeletionJobs.shutdown();
+    }
+
+    @Test
+    void removeOrSchedule_shouldReturnActiveJob_whenRemainingTasksAreBelowThreshold() throws Exception {
+        // GIVEN: un trabajo en marcha que ya ha dejado el proyecto por debajo del umbral
+        UUID projectUuid = UUID.randomUUID();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(projectRepository.existsByUuid(projectUuid)).thenReturn(true);
+        when(taskRepository.findVersionByProjectUuid(projectUuid))
+                .thenReturn(new CollectionVersion(500, LocalDateTime.now()),
+                        new CollectionVersion(50, LocalDateTime.now()));
+        doAnswer(invocation -> {
+            running.countDown();
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            return null;
+        }).when(projectService).removeProject(eq(projectUuid), any(LongConsumer.class));
+
+        ProjectDeletionJobDTO scheduled = projectDeletionJobs.removeOrSchedule(projectUuid).orElseThrow();
+        assertTrue(running.await(10, TimeUnit.SECONDS));
+
+        // WHEN
+        Optional<ProjectDeletionJobDTO> again = projectDeletionJobs.removeOrSchedule(projectUuid);
+
+        // THEN: el mismo trabajo, sin borrado en línea
+        release.countDown();
+
+        assertTrue(again.isPresent());
+        assertEquals(scheduled.id(), again.get().id());
+        assertEquals(ProjectDeletionStatus.RUNNING, again.get().status());
+        verify(projectService, never()).removeProject(projectUuid);
+        verify(projectRepository, times(1)).existsByUuid(projectUuid);
+    }
+}
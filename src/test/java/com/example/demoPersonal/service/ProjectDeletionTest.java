@@ -0,0 +1,148 @@
+package com.example.demoPersonal.service;
+
+import com.example.demoPersonal.dto.project.ProjectDeletionJobDTO;
+import com.example.demoPersonal.dto.project.ProjectDeletionStatus;
+import com.example.demoPersonal.dto.project.ProjectRequestDTO;
+import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.repository.ProjectRepository;
+import com.example.demoPersonal.repository.TaskRepository;
+import com.example.demoPersonal.support.StatementCounter;
+import com.example.demoPersonal.support.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Umbral bajo para probar también el borrado en segundo plano sin crear decenas de miles de tareas
+@SpringBootTest(properties = "project.deletion.async-threshold=100")
+@ActiveProfiles("test")
+class ProjectDeletionTest {
+    private static final int TASKS = 2_500;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectDeletionJobs projectDeletionJobs;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private TestData testData;
+    private UUID projectUuid;
+    private UUID employeeUuid;
+
+    @BeforeEach
+    void setUp() {
+        testData = new TestData(context);
+        projectUuid = testData.createProject("Huge project");
+        testData.saveTasks(projectUuid, "Quokka task", TASKS);
+        employeeUuid = testData.saveEmployee("Huge project member", "huge.member@test.com", Position.DEVELOPER);
+
+        employeeService.assignProject(employeeUuid, projectUuid);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.cleanUp();
+    }
+
+    @Test
+    void removeProject_shouldDeleteTasksInChunksWithoutLoadingThem() {
+        // GIVEN: el DTO del empleado, con el proyecto, queda en caché
+        assertEquals(1, employeeService.getEmployeeByUuid(employeeUuid).projects().size());
+        List<Long> progress = new ArrayList<>();
+        StatementCounter counter = new StatementCounter(entityManagerFactory);
+
+        // WHEN
+        long statements = counter.count(() -> projectService.removeProject(projectUuid, progress::add));
+
+        // THEN: unas pocas sentencias por tramo, no una por tarea
+        assertTrue(statements < 20, "Expected a few statements per chunk but was " + statements);
+        assertEquals(List.of(1_000L, 2_000L, 2_500L), progress);
+        assertFalse(projectRepository.existsByUuid(projectUuid));
+        assertEquals(0, taskRepository.findVersionByProjectUuid(projectUuid).count());
+        assertTrue(searchService.search("quokka", 10).isEmpty());
+        assertTrue(employeeService.getEmployeeByUuid(employeeUuid).projects().isEmpty());
+    }
+
+    @Test
+    void removeProject_shouldIgnoreUpdatesMadeWhileDeleting() {
+        // GIVEN: el proyecto cambia de versión a mitad del borrado, como un PUT durante un borrado asíncrono
+        List<Long> progress = new ArrayList<>();
+
+        // WHEN
+        projectService.removeProject(projectUuid, deleted -> {
+            if (progress.isEmpty()) {
+                projectService.updateProject(projectUuid, new ProjectRequestDTO("Renamed while deleting"));
+            }
+            progress.add(deleted);
+        });
+
+        // THEN
+        assertEquals(List.of(1_000L, 2_000L, 2_500L), progress);
+        assertFalse(projectRepository.existsByUuid(projectUuid));
+        assertEquals(0, taskRepository.findVersionByProjectUuid(projectUuid).count());
+    }
+
+    @Test
+    void removeOrSchedule_shouldDeleteLargeProjectsInBackground() throws Exception {
+        // WHEN
+        Optional<ProjectDeletionJobDTO> scheduled = projectDeletionJobs.removeOrSchedule(projectUuid);
+
+        // THEN
+        assertTrue(scheduled.isPresent());
+        assertEquals(TASKS, scheduled.get().totalTasks());
+
+        ProjectDeletionJobDTO job = scheduled.get();
+        for (int i = 0; i < 300 && job.finishedAt() == null; i++) {
+            Thread.sleep(100);
+            job = projectDeletionJobs.getJob(job.id());
+        }
+
+        assertEquals(ProjectDeletionStatus.COMPLETED, job.status());
+        assertEquals(TASKS, job.deletedTasks());
+        assertFalse(projectRepository.existsByUuid(projectUuid));
+    }
+
+    @Test
+    void removeOrSchedule_shouldDeleteSmallProjectsInline() {
+        // GIVEN
+        UUID smallProject = testData.createProject("Small project");
+
+        // WHEN
+        Optional<ProjectDeletionJobDTO> scheduled = projectDeletionJobs.removeOrSchedule(smallProject);
+
+        // THEN
+        assertTrue(scheduled.isEmpty());
+        assertFalse(projectRepository.existsByUuid(smallProject));
+    }
+}
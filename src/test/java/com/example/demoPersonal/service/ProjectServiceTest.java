@@ -1,24 +1,33 @@
 package com.example.demoPersonal.service;
 
+import com.example.demoPersonal.dto.project.ProjectMembersResponseDTO;
 import com.example.demoPersonal.dto.project.ProjectRequestDTO;
 import com.example.demoPersonal.dto.project.ProjectResponseDTO;
+import com.example.demoPersonal.entity.Employee;
 import com.example.demoPersonal.entity.Project;
 import com.example.demoPersonal.exception.ProjectNotFoundException;
 import com.example.demoPersonal.mapper.employee.EmployeeMapper;
 import com.example.demoPersonal.mapper.project.ProjectMapper;
 import com.example.demoPersonal.mapper.task.TaskMapper;
+import com.example.demoPersonal.repository.EmployeeRepository;
 import com.example.demoPersonal.repository.ProjectRepository;
+import com.example.demoPersonal.repository.projection.EmployeeCacheKey;
+import com.example.demoPersonal.search.SearchIndexListener;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,11 +35,17 @@ class ProjectServiceTest {
     @Mock
     private ProjectRepository projectRepository;
     @Mock
+    private EmployeeRepository employeeRepository;
+    @Mock
     private ProjectMapper projectMapper;
     @Mock
     private TaskMapper taskMapper;
     @Mock
     private EmployeeMapper employeeMapper;
+    @Mock
+    private DtoCaches dtoCaches;
+    @Mock
+    private SearchIndexListener searchIndexListener;
 
     @InjectMocks
     private ProjectService projectService;
@@ -121,4 +136,107 @@ class ProjectServiceTest {
         verify(projectRepository, never()).save(any(Project.class));
         verify(projectMapper, never()).toDTO(any(Project.class));
     }
+
+    private Employee employee(String email) {
+        Employee employee = new Employee();
+        employee.setUuid(UUID.randomUUID());
+        employee.setEmail(email);
+
+        return employee;
+    }
+
+    @Test
+    void assignEmployees_shouldReportChangedUnchangedAndNotFound() {
+        // GIVEN
+        Project project = new Project();
+        project.setUuid(UUID.randomUUID());
+
+        Employee added = employee("added@gmail.com");
+        Employee member = employee("member@gmail.com");
+        UUID unknown = UUID.randomUUID();
+
+        when(projectRepository.findByUuid(project.getUuid())).thenReturn(Optional.of(project));
+        when(employeeRepository.findByUuidIn(Set.of(added.getUuid(), member.getUuid(), unknown)))
+                .thenReturn(List.of(added, member));
+        when(employeeRepository.addProjectMembers(project, List.of(added, member))).thenReturn(1);
+
+        // WHEN: el uuid repetido cuenta una sola vez
+        ProjectMembersResponseDTO result = projectService.assignEmployees(project.getUuid(),
+                List.of(added.getUuid(), member.getUuid(), unknown, added.getUuid()));
+
+        // THEN
+        assertEquals(1, result.changed());
+        assertEquals(1, result.unchanged());
+        assertEquals(List.of(unknown), result.notFound());
+
+        verify(dtoCaches).evictEmployee(added.getUuid(), added.getEmail());
+        verify(dtoCaches).evictEmployee(member.getUuid(), member.getEmail());
+    }
+
+    @Test
+    void unassignEmployees_shouldEvictRequestedEmployees() {
+        // GIVEN
+        Project project = new Project();
+        project.setUuid(UUID.randomUUID());
+
+        Employee removed = employee("removed@gmail.com");
+        Employee other = employee("other@gmail.com");
+
+        when(projectRepository.findByUuid(project.getUuid())).thenReturn(Optional.of(project));
+        when(employeeRepository.findByUuidIn(Set.of(removed.getUuid(), other.getUuid())))
+                .thenReturn(List.of(removed, other));
+        when(employeeRepository.removeProjectMembers(project, List.of(removed, other))).thenReturn(1);
+
+        // WHEN
+        ProjectMembersResponseDTO result = projectService.unassignEmployees(project.getUuid(),
+                List.of(removed.getUuid(), other.getUuid()));
+
+        // THEN
+        assertEquals(1, result.changed());
+        assertEquals(1, result.unchanged());
+        assertTrue(result.notFound().isEmpty());
+
+        // La sentencia solo devuelve cuántas filas cambiaron: se invalidan todos los encontrados
+        verify(dtoCaches).evictEmployee(removed.getUuid(), removed.getEmail());
+        verify(dtoCaches).evictEmployee(other.getUuid(), other.getEmail());
+    }
+
+    @Test
+    void assignEmployees_shouldThrowException_whenProjectNotExists() {
+        // GIVEN
+        UUID projectUuid = UUID.randomUUID();
+
+        when(projectRepository.findByUuid(projectUuid)).thenReturn(Optional.empty());
+
+        // WHEN - THEN
+        assertThrows(ProjectNotFoundException.class,
+                () -> projectService.assignEmployees(projectUuid, List.of(UUID.randomUUID())));
+
+        verify(employeeRepository, never()).addProjectMembers(any(), any());
+    }
+
+    @Test
+    void removeProject_shouldEvictMembersAfterDeletingMemberships() {
+        // GIVEN
+        UUID projectUuid = UUID.randomUUID();
+        Project project = new Project();
+        project.setUuid(projectUuid);
+        List<EmployeeCacheKey> members = List.of(new EmployeeCacheKey(UUID.randomUUID(), "member@test.com"));
+
+        when(projectRepository.findByUuid(projectUuid)).thenReturn(Optional.of(project));
+        when(dtoCaches.employeesOfProject(projectUuid)).thenReturn(members);
+        when(projectRepository.deleteTasks(eq(project), anyInt())).thenReturn(List.of());
+
+        // WHEN
+        projectService.removeProject(projectUuid);
+
+        // THEN: una lectura entre el borrado de la relación y la invalidación ya no ve el proyecto
+        InOrder inOrder = inOrder(dtoCaches, projectRepository);
+        inOrder.verify(dtoCaches).employeesOfProject(projectUuid);
+        inOrder.verify(projectRepository).deleteMemberships(project);
+        inOrder.verify(dtoCaches).evictEmployees(members);
+        inOrder.verify(projectRepository).deleteProject(project);
+        verify(projectRepository, never()).delete(any());
+        verify(dtoCaches, never()).evictEmployeesOfProject(any());
+    }
 }
@@ -1,5 +1,7 @@
 package com.example.demoPersonal.service;
 
+import com.example.demoPersonal.dto.page.CursorPageResponseDTO;
+import com.example.demoPersonal.dto.task.BulkTaskResponseDTO;
 import com.example.demoPersonal.dto.task.TaskRequestDTO;
 import com.example.demoPersonal.dto.task.TaskResponseDTO;
 import com.example.demoPersonal.entity.Employee;
@@ -8,22 +10,28 @@ import com.example.demoPersonal.entity.Task;
 import com.example.demoPersonal.entity.enums.Position;
 import com.example.demoPersonal.entity.enums.Status;
 import com.example.demoPersonal.exception.EmployeeNotFoundException;
+import com.example.demoPersonal.exception.InvalidCursorException;
 import com.example.demoPersonal.exception.ProjectNotFoundException;
 import com.example.demoPersonal.exception.TaskNotFoundException;
 import com.example.demoPersonal.mapper.task.TaskMapper;
 import com.example.demoPersonal.repository.EmployeeRepository;
 import com.example.demoPersonal.repository.ProjectRepository;
 import com.example.demoPersonal.repository.TaskRepository;
+import com.example.demoPersonal.repository.projection.TaskKeysetRow;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -423,4 +431,71 @@ class TaskServiceTest {
         verify(taskRepository, never()).save(any(Task.class));
         verify(taskMapper, never()).toDTO(any(Task.class));
     }
+
+    @Test
+    void scrollTasks_shouldReturnNextCursor_whenMoreRowsExist() {
+        // GIVEN
+        List<TaskKeysetRow> rows = List.of(taskRow(1L), taskRow(2L), taskRow(3L));
+
+        when(taskRepository.findFirstRows(PageRequest.ofSize(3))).thenReturn(rows);
+
+        // WHEN
+        CursorPageResponseDTO<TaskResponseDTO> result = taskService.scrollTasks(null, 2);
+
+        // THEN
+        assertEquals(2, result.items().size());
+        assertNotNull(result.nextCursor());
+
+        // El siguiente cursor apunta al id de la última tarea devuelta
+        when(taskRepository.findRowsAfter(2L, PageRequest.ofSize(3))).thenReturn(List.of(rows.get(2)));
+
+        CursorPageResponseDTO<TaskResponseDTO> next = taskService.scrollTasks(result.nextCursor(), 2);
+
+        assertEquals(List.of(rows.get(2).toDTO()), next.items());
+        assertNull(next.nextCursor());
+    }
+
+    @Test
+    void scrollTasks_shouldThrowException_whenCursorIsMalformed() {
+        // WHEN - THEN
+        assertThrows(InvalidCursorException.class, () -> taskService.scrollTasks("not-a-cursor", 20));
+
+        verify(taskRepository, never()).findRowsAfter(anyLong(), any());
+    }
+
+    @Test
+    void createTasks_shouldReportUnknownProjectPerItem() {
+        // GIVEN
+        Project project = new Project();
+        project.setUuid(UUID.randomUUID());
+        UUID missingProject = UUID.randomUUID();
+
+        List<TaskRequestDTO> dtos = List.of(
+                new TaskRequestDTO("First", Status.TODO, project.getUuid()),
+                new TaskRequestDTO("Second", Status.TODO, missingProject)
+        );
+
+        when(projectRepository.findByUuidIn(any())).thenReturn(List.of(project));
+        when(taskMapper.toDTO(any(Task.class))).thenReturn(taskDTO());
+
+        // WHEN
+        BulkTaskResponseDTO result = taskService.createTasks(dtos);
+
+        // THEN
+        assertEquals(1, result.succeeded());
+        assertEquals(1, result.failed());
+        assertTrue(result.results().get(0).success());
+        assertEquals(1, result.results().get(1).index());
+        assertTrue(result.results().get(1).error().contains(missingProject.toString()));
+
+        verify(taskRepository).saveAllAndFlush(argThat(tasks -> ((List<Task>) tasks).size() == 1));
+    }
+
+    private TaskKeysetRow taskRow(Long id) {
+        return new TaskKeysetRow(id, UUID.randomUUID(), "Test", Status.TODO, null, null, null, UUID.randomUUID());
+    }
+
+    private TaskResponseDTO taskDTO() {
+        return new TaskResponseDTO(UUID.randomUUID(), "Test", Status.TODO, null, null, null, UUID.randomUUID());
+    }
 }
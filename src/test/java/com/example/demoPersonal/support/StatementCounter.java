@@ -0,0 +1,51 @@
+package com.example.demoPersonal.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Cuenta las sentencias JDBC preparadas por Hibernate (requiere hibernate.generate_statistics)
+public class StatementCounter {
+    private final Statistics statistics;
+
+    public StatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public long count(Runnable action) {
+        statistics.clear();
+        action.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    public void assertStatements(long expected, Runnable action) {
+        long executed = count(action);
+
+        assertEquals(expected, executed, "Unexpected number of SQL statements");
+    }
+
+    public <T> T expectAtMostStatements(long max, Supplier<T> action) {
+        List<T> result = new ArrayList<>(1);
+
+        long executed = count(() -> result.add(action.get()));
+        assertTrue(executed <= max, "Expected at most " + max + " SQL statements but was " + executed);
+
+        return result.get(0);
+    }
+
+    public <T> T expectStatements(long expected, Supplier<T> action) {
+        List<T> result = new ArrayList<>(1);
+
+        assertStatements(expected, () -> result.add(action.get()));
+
+        return result.get(0);
+    }
+}
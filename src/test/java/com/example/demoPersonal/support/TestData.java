@@ -0,0 +1,105 @@
+package com.example.demoPersonal.support;
+
+import com.example.demoPersonal.dto.project.ProjectRequestDTO;
+import com.example.demoPersonal.entity.Employee;
+import com.example.demoPersonal.entity.Project;
+import com.example.demoPersonal.entity.Task;
+import com.example.demoPersonal.entity.enums.Position;
+import com.example.demoPersonal.repository.EmployeeRepository;
+import com.example.demoPersonal.repository.ProjectRepository;
+import com.example.demoPersonal.repository.TaskRepository;
+import com.example.demoPersonal.service.EmployeeService;
+import com.example.demoPersonal.service.ProjectService;
+import org.springframework.context.ApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ObjIntConsumer;
+
+// Datos de los tests de integración sin @Transactional. Lo creado aquí se borra en cleanUp() a través de los
+// servicios, para que el índice de búsqueda y las cachés de DTOs no arrastren restos al siguiente test.
+public class TestData {
+    private final EmployeeRepository employeeRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final EmployeeService employeeService;
+    private final ProjectService projectService;
+
+    private final List<UUID> employeeUuids = new ArrayList<>();
+    private final List<UUID> projectUuids = new ArrayList<>();
+
+    public TestData(ApplicationContext context) {
+        this.employeeRepository = context.getBean(EmployeeRepository.class);
+        this.projectRepository = context.getBean(ProjectRepository.class);
+        this.taskRepository = context.getBean(TaskRepository.class);
+        this.employeeService = context.getBean(EmployeeService.class);
+        this.projectService = context.getBean(ProjectService.class);
+    }
+
+    public static Employee employee(String name, String email, Position position) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setEmail(email);
+        employee.setPassword("password");
+        employee.setPosition(position);
+
+        return employee;
+    }
+
+    public static Task task(Project project, String description) {
+        Task task = new Task();
+        task.setDescription(description);
+        task.setProject(project);
+
+        return task;
+    }
+
+    public UUID saveEmployee(String name, String email, Position position) {
+        UUID uuid = employeeRepository.save(employee(name, email, position)).getUuid();
+        employeeUuids.add(uuid);
+
+        return uuid;
+    }
+
+    public UUID createProject(String name) {
+        return trackProject(projectService.createProject(new ProjectRequestDTO(name)).uuid());
+    }
+
+    // Proyectos creados por el propio test (p. ej. clones) que también hay que borrar
+    public UUID trackProject(UUID uuid) {
+        projectUuids.add(uuid);
+
+        return uuid;
+    }
+
+    public Task saveTask(UUID projectUuid, String description) {
+        return taskRepository.save(task(projectRepository.findByUuid(projectUuid).orElseThrow(), description));
+    }
+
+    // Descripciones "description 0", "description 1"...; customizer recibe cada tarea con su índice
+    public List<Task> saveTasks(UUID projectUuid, String description, int count, ObjIntConsumer<Task> customizer) {
+        Project project = projectRepository.findByUuid(projectUuid).orElseThrow();
+
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = task(project, description + " " + i);
+            customizer.accept(task, i);
+            tasks.add(task);
+        }
+
+        return taskRepository.saveAll(tasks);
+    }
+
+    public List<Task> saveTasks(UUID projectUuid, String description, int count) {
+        return saveTasks(projectUuid, description, count, (task, i) -> {});
+    }
+
+    // Los empleados primero: su baja desasigna tareas y membresías. Se salta lo que el test ya borró.
+    public void cleanUp() {
+        employeeUuids.stream().filter(employeeRepository::existsByUuid).forEach(employeeService::removeEmployee);
+        employeeUuids.clear();
+        projectUuids.stream().filter(projectRepository::existsByUuid).forEach(projectService::removeProject);
+        projectUuids.clear();
+    }
+}